@@ -0,0 +1,24 @@
+package com.capitolis.taskmanagementapi.cache;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * What the "tasks" cache holds: an immutable snapshot of a task row.
+ * Task is a mutable entity - caching it directly would hand the same instance to every caller, and one caller's
+ * setter would change what everyone else reads. Each read gets its own Task from toTask().
+ */
+public record CachedTask(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static CachedTask of(Task task) {
+        return new CachedTask(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getDueDate(),
+                task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    public Task toTask() {
+        return new Task(id, title, description, status, dueDate, createdAt, updatedAt);
+    }
+}
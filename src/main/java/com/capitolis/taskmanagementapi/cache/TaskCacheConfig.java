@@ -0,0 +1,15 @@
+package com.capitolis.taskmanagementapi.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on Spring's @Cacheable support. Which cache is used (Caffeine, or none) comes from spring.cache.* in application.properties.
+ */
+@Configuration
+@EnableCaching
+public class TaskCacheConfig {
+
+    // Cache of single tasks by id (CachedTask values), filled by TaskService.getTaskById
+    public static final String TASKS_CACHE = "tasks";
+}
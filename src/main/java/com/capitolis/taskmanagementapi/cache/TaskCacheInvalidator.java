@@ -0,0 +1,56 @@
+package com.capitolis.taskmanagementapi.cache;
+
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the "tasks" cache coherent with the database.
+ * Runs after the write transaction commits: evicting earlier would let a concurrent reader put the old row back in.
+ * Single-task writes refresh the entry with the row TaskService just read back (write-through),
+ * deletes and set-based status changes evict, and a filter-based change (unknown ids) clears the whole cache.
+ * Creates also matter: getTaskById caches a missing id as absent, so each created id is put or evicted.
+ */
+@Component
+public class TaskCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public TaskCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Cache cache = cacheManager.getCache(TaskCacheConfig.TASKS_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        switch (event.type()) {
+            case UPDATED, COMPLETED -> event.tasks().forEach(task -> cache.put(task.getId(), CachedTask.of(task)));
+            case CREATED -> {
+                // Only single creates are written through - a bulk import shouldn't push hot entries out of the cache
+                if (event.tasks().size() == 1) {
+                    Task task = event.tasks().getFirst();
+                    cache.put(task.getId(), CachedTask.of(task));
+                } else {
+                    event.tasks().forEach(task -> cache.evict(task.getId()));
+                }
+            }
+            case DELETED -> event.ids().forEach(cache::evict);
+            case STATUS_CHANGED -> {
+                if (event.affectsUnknownRows()) {
+                    cache.clear();
+                } else {
+                    event.ids().forEach(cache::evict);
+                }
+            }
+        }
+    }
+}
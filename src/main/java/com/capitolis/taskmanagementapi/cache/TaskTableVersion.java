@@ -0,0 +1,58 @@
+package com.capitolis.taskmanagementapi.cache;
+
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.routing.ReplicationStandIn;
+import com.capitolis.taskmanagementapi.routing.RoutingContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A version number for the whole tasks table, bumped after every committed write.
+ * List responses use it as a weak ETag: same version = same data, so a poller sending If-None-Match gets 304
+ * without the database being queried at all.
+ * The start time is part of the tag, so tags handed out before a restart never match afterwards.
+
+ * Lists read from a replica (@ReadFromReplica) are tagged with replicaReadWeakETag() instead: a replica may not have
+ * applied the latest writes yet, and a tag that claims them would turn the client's stale copy into a 304 for good.
+ */
+@Component
+public class TaskTableVersion {
+
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final ObjectProvider<ReplicationStandIn> replication; // Only there with app.routing.enabled=true
+
+    public TaskTableVersion(ObjectProvider<ReplicationStandIn> replication) {
+        this.replication = replication;
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    // Weak because list responses are semantically equal for the same version, not guaranteed byte-for-byte identical
+    public String weakETag() {
+        return "W/\"" + instanceId + "-" + version.get() + "\"";
+    }
+
+    // Without routing the same as weakETag(). With routing the tag carries the replication version every replica has
+    // applied, or the client's read-after version when that is higher (routing then guarantees the read sees it) -
+    // never more than the data has. Once the replicas catch up the tag changes and the client reads again.
+    public String replicaReadWeakETag() {
+        ReplicationStandIn standIn = replication.getIfAvailable();
+        if (standIn == null) {
+            return weakETag();
+        }
+        long replicated = Math.max(standIn.replicatedVersion(), RoutingContext.readAfterVersion());
+        return "W/\"" + instanceId + "-r" + replicated + "\"";
+    }
+
+    // After commit: bumping earlier would let a reader tag the old rows with the new version
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,122 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.RebalanceResult;
+import com.capitolis.taskmanagementapi.dto.ShardStats;
+import com.capitolis.taskmanagementapi.dto.ShardedTaskUpdateRequest;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.sharding.ShardedTaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * The task API on top of the sharded storage - same JSON and cursors as /api/tasks, different databases.
+ * Only registered when app.sharding.enabled=true.
+ */
+@RestController
+@RequestMapping("/api/sharded/tasks")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardedTaskController {
+
+    private final ShardedTaskRepository shardedTaskRepository;
+
+    @Value("${app.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    @Autowired
+    public ShardedTaskController(ShardedTaskRepository shardedTaskRepository) {
+        this.shardedTaskRepository = shardedTaskRepository;
+    }
+
+    // GET /api/sharded/tasks?cursor=xyz&size=50 - All tasks, merged from every shard in id order
+    @GetMapping
+    public ResponseEntity<CursorPage<Task>> getAllTasks(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(page(null, null, cursor, size));
+    }
+
+    // GET /api/sharded/tasks/{id} - Reads only the shard that owns the id
+    @GetMapping("/{id}")
+    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
+        return shardedTaskRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // GET /api/sharded/tasks/status/{status}?cursor=xyz&size=50
+    @GetMapping("/status/{status}")
+    public ResponseEntity<CursorPage<Task>> getTasksByStatus(@PathVariable TaskStatus status,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(page(status, null, cursor, size));
+    }
+
+    // GET /api/sharded/tasks/search?keyword=xyz&cursor=abc&size=50 - Title contains keyword (case-insensitive)
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<Task>> searchTasks(@RequestParam String keyword,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(page(null, keyword, cursor, size));
+    }
+
+    // POST /api/sharded/tasks - The id is generated (Snowflake), any id in the body is ignored
+    @PostMapping
+    public ResponseEntity<Task> createTask(@RequestBody Task task) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(shardedTaskRepository.save(task));
+    }
+
+    // PUT /api/sharded/tasks/{id} - Without "status" in the body the task keeps its current status
+    @PutMapping("/{id}")
+    public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody ShardedTaskUpdateRequest taskDetails) {
+        return shardedTaskRepository.update(id, taskDetails.toTask())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // DELETE /api/sharded/tasks/{id}
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
+        return shardedTaskRepository.deleteById(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    // GET /api/sharded/tasks/shards - Active shard count and tasks per shard
+    @GetMapping("/shards")
+    public ResponseEntity<ShardStats> getShards() {
+        return ResponseEntity.ok(shardedTaskRepository.stats());
+    }
+
+    // POST /api/sharded/tasks/shards/rebalance?count=4 - Move tasks to fit a new shard count (blocks the API meanwhile)
+    @PostMapping("/shards/rebalance")
+    public ResponseEntity<RebalanceResult> rebalance(@RequestParam int count) {
+        return ResponseEntity.ok(shardedTaskRepository.rebalance(count));
+    }
+
+    private CursorPage<Task> page(TaskStatus status, String keyword, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        long afterId = CursorPage.decodeCursor(cursor);
+        List<Task> rows = shardedTaskRepository.findPage(status, keyword, afterId, pageSize + 1);
+        return CursorPage.of(rows, pageSize, Task::getId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.cache.TaskCacheConfig;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exposes hit / miss / eviction statistics of the task cache.
+ */
+@RestController
+@RequestMapping("/api/tasks/cache")
+public class TaskCacheController {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public TaskCacheController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // GET /api/tasks/cache/stats - Cache statistics ({"enabled": false} when spring.cache.type=none)
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        Cache cache = cacheManager.getCache(TaskCacheConfig.TASKS_CACHE);
+
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            body.put("enabled", false);
+            return ResponseEntity.ok(body);
+        }
+
+        CacheStats stats = caffeine.stats();
+        body.put("enabled", true);
+        body.put("size", caffeine.estimatedSize());
+        body.put("hitCount", stats.hitCount());
+        body.put("missCount", stats.missCount());
+        body.put("hitRate", stats.hitRate());
+        body.put("evictionCount", stats.evictionCount());
+        return ResponseEntity.ok(body);
+    }
+}
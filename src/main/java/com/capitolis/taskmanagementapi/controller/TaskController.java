@@ -1,14 +1,35 @@
 package com.capitolis.taskmanagementapi.controller;
 
+import com.capitolis.taskmanagementapi.cache.TaskTableVersion;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResponse;
+import com.capitolis.taskmanagementapi.dto.BulkStatusUpdateRequest;
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.SearchPage;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.exception.TaskNotFoundException;
 import com.capitolis.taskmanagementapi.model.Task;
 import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.search.TaskSearchService;
+import com.capitolis.taskmanagementapi.service.TaskExportService;
 import com.capitolis.taskmanagementapi.service.TaskService;
+import com.capitolis.taskmanagementapi.service.TaskStatusCounters;
+import com.capitolis.taskmanagementapi.web.RepresentationNegotiator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -28,25 +49,100 @@ public class TaskController {
 
     // Equal to the above field injection, but with constructor injection, which is generally recommended for better testability and immutability
     private final TaskService taskService; // Base practice, more threadsafe and easier to test (can create 'new').
+    private final TaskExportService taskExportService; // Streams the NDJSON export
+    private final TaskSearchService taskSearchService; // Ranked full-text search over title and description
+    private final TaskStatusCounters taskStatusCounters; // In-memory number of tasks per status
+    private final TaskTableVersion taskTableVersion; // Version of the tasks table, used as the ETag of list responses
+    private final RepresentationNegotiator representationNegotiator; // Which format (JSON, CBOR, ...) a response will be - part of the strong ETag
     @Autowired // @Autowired annotation is used to automatically inject the TaskService dependency into the TaskController class. This allows us to use the service's methods for performing business logic and interacting with the repository layer for managing tasks without needing to manually instantiate the service.
     // Simple constructor-based dependency injection.
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService, TaskSearchService taskSearchService,
+                          TaskStatusCounters taskStatusCounters, TaskTableVersion taskTableVersion,
+                          RepresentationNegotiator representationNegotiator) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskSearchService = taskSearchService;
+        this.taskStatusCounters = taskStatusCounters;
+        this.taskTableVersion = taskTableVersion;
+        this.representationNegotiator = representationNegotiator;
     }
 
-    // GET /api/tasks - Get all tasks
+    // Values of ?view= on the list endpoints
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+
+    // Page size used when the client doesn't send ?size=
+    @Value("${app.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    // Upper bound for ?size= so a single request can never pull the whole table into memory
+    @Value("${app.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    // Maximum number of tasks accepted by POST /api/tasks/bulk
+    @Value("${app.bulk.max-items:5000}")
+    private int maxBulkItems;
+
+    // GET /api/tasks?cursor=xyz&size=50 - Get one page of tasks (pass back nextCursor to get the following page)
+    // ?view=summary returns only id, title and status (narrower SELECT, smaller JSON) - GET /{id} always returns the full task
     @GetMapping // @GetMapping annotation indicates that this method will handle HTTP GET requests to
-    public ResponseEntity<List<Task>> getAllTasks() { // We don't want only tp return List<Task> because we also want to include HTTP status codes (or more HTTP features) in our response. By using ResponseEntity<List<Task>>, we can return both the list of tasks and the appropriate HTTP status code (e.g., 200 OK) in a single response object.
-        List<Task> tasks = taskService.getAllTasks(); // Calling the service method to get all tasks from the database
-        return ResponseEntity.ok(tasks); // Returning the list of tasks wrapped in a ResponseEntity with HTTP status 200 OK
-//        return new ResponseEntity<>(tasks, HttpStatus.OK); // Returning the list of tasks wrapped in a ResponseEntity with HTTP status 200 OK
+    public ResponseEntity<CursorPage<?>> getAllTasks(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @RequestParam(defaultValue = VIEW_FULL) String view,
+                                                     WebRequest request) { // We don't want only tp return the tasks because we also want to include HTTP status codes (or more HTTP features) in our response. By using ResponseEntity<...>, we can return both the page of tasks and the appropriate HTTP status code (e.g., 200 OK) in a single response object.
+        if (request.checkNotModified(taskTableVersion.replicaReadWeakETag())) { // Nothing changed since the client's copy -> 304 Not Modified, no query at all
+            return null;
+        }
+        CursorPage<?> page = isSummaryView(view)
+                ? taskService.getTaskSummariesPage(cursor, resolvePageSize(size))
+                : taskService.getTasksPage(cursor, resolvePageSize(size)); // Calling the service method to get one page of tasks from the database
+        return ResponseEntity.ok(page); // Returning the page of tasks wrapped in a ResponseEntity with HTTP status 200 OK
+//        return new ResponseEntity<>(page, HttpStatus.OK); // Returning the page of tasks wrapped in a ResponseEntity with HTTP status 200 OK
+    }
+
+    // GET /api/tasks/export?status=TODO&keyword=xyz - Stream all (optionally filtered) tasks as NDJSON, one task per line
+    // StreamingResponseBody writes on a separate thread after this method returns, so the full result never sits in memory
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(required = false) TaskStatus status,
+                                                             @RequestParam(required = false) String keyword) {
+        StreamingResponseBody body = out -> taskExportService.exportNdjson(status, keyword, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // GET /api/tasks/summary - Number of tasks per status, e.g. {"TODO": 12, "IN_PROGRESS": 3, "DONE": 40, "total": 55}
+    // Served from in-memory counters, no database query
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Long>> getSummary() {
+        Map<String, Long> body = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<TaskStatus, Long> entry : taskStatusCounters.snapshot().entrySet()) {
+            body.put(entry.getKey().name(), entry.getValue());
+            total += entry.getValue();
+        }
+        body.put("total", total);
+        return ResponseEntity.ok(body);
     }
 
     // GET /api/tasks/{id} - Get task by ID
+    // Sends a strong ETag (id + updatedAt + the negotiated format). A match of If-None-Match returns 304: checked against
+    // the cached task when there is one (no query at all), otherwise only the updatedAt column is read.
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
-        Optional<Task> task = taskService.getTaskById(id);
-        return task.map(ResponseEntity::ok)
+    public ResponseEntity<Task> getTaskById(@PathVariable Long id, NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        MediaType representation = representationNegotiator.negotiate(request, Task.class);
+        Optional<Task> cached = Optional.empty();
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            cached = taskService.getCachedTaskById(id);
+            Optional<LocalDateTime> updatedAt = cached.isPresent()
+                    ? cached.map(Task::getUpdatedAt)
+                    : taskService.getTaskUpdatedAt(id);
+            if (updatedAt.isPresent() && request.checkNotModified(TaskETags.forTask(id, updatedAt.get(), representation))) {
+                return null; // checkNotModified already set 304 Not Modified on the response
+            }
+        }
+        Optional<Task> task = cached.isPresent() ? cached : taskService.getTaskById(id);
+        return task.map(found -> ResponseEntity.ok().eTag(TaskETags.forTask(found, representation)).body(found))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -59,36 +155,108 @@ public class TaskController {
     }
 
 
+    // POST /api/tasks/bulk - Create many tasks in one call (JSON array of tasks)
+    // 201 when every task was created, 207 Multi-Status when some were rejected - check "results" for each item
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponse> createTasks(@RequestBody List<Task> tasks) {
+        if (tasks.size() > maxBulkItems) {
+            throw new BadRequestException("Too many tasks in one request: " + tasks.size() + " (max " + maxBulkItems + ")");
+        }
+        BulkCreateResponse response = taskService.createTasks(tasks);
+        HttpStatus status = response.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+
+    // PATCH /api/tasks/bulk/status - Move many tasks to a new status in one UPDATE statement
+    // Body: { "ids": [1,2,3], "targetStatus": "DONE" } or a filter { "status": "TODO", "dueBefore": "...", "keyword": "...", "targetStatus": "DONE" }
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<Map<String, Integer>> updateStatus(@RequestBody BulkStatusUpdateRequest request) {
+        if (request.hasIds() && request.ids().size() > maxBulkItems) {
+            throw new BadRequestException("Too many ids in one request: " + request.ids().size() + " (max " + maxBulkItems + ")");
+        }
+        int updated = taskService.updateStatus(request);
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+
     // PUT /api/tasks/{id} - Update existing task
     @PutMapping("/{id}")
     public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody Task taskDetails) { // PathVariable annotation indicates that the id parameter will be extracted from the URL path when a PUT request is made to this endpoint. This allows us to specify which task we want to update by including its ID in the URL.
         try {
             Task updatedTask = taskService.updateTask(id, taskDetails);
             return ResponseEntity.ok(updatedTask);
-        } catch (RuntimeException e) {
+        } catch (TaskNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
-    // DELETE /api/tasks/{id} - Delete task
+    // DELETE /api/tasks/{id} - Delete task (204 No Content when deleted, 404 Not Found when the id doesn't exist)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
-        return ResponseEntity.noContent().build();
+        try {
+            taskService.deleteTask(id);
+            return ResponseEntity.noContent().build();
+        } catch (TaskNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
-    // GET /api/tasks/status/{status} - Get tasks by status
+    // POST /api/tasks/bulk/delete - Delete many tasks by id (JSON array of ids), returns how many were deleted
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<Map<String, Integer>> deleteTasks(@RequestBody List<Long> ids) {
+        if (ids.size() > maxBulkItems) {
+            throw new BadRequestException("Too many ids in one request: " + ids.size() + " (max " + maxBulkItems + ")");
+        }
+        int deleted = taskService.deleteTasks(ids);
+        return ResponseEntity.ok(Map.of("deleted", deleted));
+    }
+
+    // GET /api/tasks/status/{status}?cursor=xyz&size=50 - Get tasks by status, one page at a time
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable TaskStatus status) {
-        List<Task> tasks = taskService.getTasksByStatus(status);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<CursorPage<?>> getTasksByStatus(@PathVariable TaskStatus status,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size,
+                                                          @RequestParam(defaultValue = VIEW_FULL) String view,
+                                                          WebRequest request) {
+        if (request.checkNotModified(taskTableVersion.replicaReadWeakETag())) {
+            return null;
+        }
+        CursorPage<?> page = isSummaryView(view)
+                ? taskService.getTaskSummariesByStatusPage(status, cursor, resolvePageSize(size))
+                : taskService.getTasksByStatusPage(status, cursor, resolvePageSize(size));
+        return ResponseEntity.ok(page);
     }
 
-    // GET /api/tasks/search?keyword=xyz - Search tasks by title
+    // GET /api/tasks/search?keyword=xyz&cursor=abc&size=50 - Search tasks by title, one page at a time
     @GetMapping("/search")
-    public ResponseEntity<List<Task>> searchTasks(@RequestParam String keyword) { // @RequestParam annotation indicates that the keyword parameter will be extracted from the query string of the URL when a GET request is made to this endpoint. This allows us to search for tasks by including a keyword in the query string, such as /api/tasks/search?keyword=meeting, which will trigger this method and pass "meeting" as the value of the keyword parameter.
-        List<Task> tasks = taskService.searchTasksByTitle(keyword);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<CursorPage<?>> searchTasks(@RequestParam String keyword,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @RequestParam(defaultValue = VIEW_FULL) String view,
+                                                     WebRequest request) { // @RequestParam annotation indicates that the keyword parameter will be extracted from the query string of the URL when a GET request is made to this endpoint. This allows us to search for tasks by including a keyword in the query string, such as /api/tasks/search?keyword=meeting, which will trigger this method and pass "meeting" as the value of the keyword parameter.
+        if (request.checkNotModified(taskTableVersion.replicaReadWeakETag())) {
+            return null;
+        }
+        CursorPage<?> page = isSummaryView(view)
+                ? taskService.searchTaskSummariesByTitlePage(keyword, cursor, resolvePageSize(size))
+                : taskService.searchTasksByTitlePage(keyword, cursor, resolvePageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+
+    // GET /api/tasks/search/fulltext?q=spring boo&offset=0&size=20 - Ranked search over title AND description
+    // Every word must match, the last letters can be missing ("boo" matches "boot"), best matches come first
+    @GetMapping("/search/fulltext")
+    public ResponseEntity<SearchPage> fullTextSearch(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "0") int offset,
+                                                     @RequestParam(required = false) Integer size,
+                                                     WebRequest request) {
+        if (request.checkNotModified(taskTableVersion.weakETag())) {
+            return null;
+        }
+        SearchPage page = taskSearchService.search(q, offset, resolvePageSize(size));
+        return ResponseEntity.ok(page);
     }
 
 
@@ -99,10 +267,28 @@ public class TaskController {
         try {
             Task completedTask = taskService.markTaskAsComplete(id);
             return ResponseEntity.ok(completedTask);
-        } catch (RuntimeException e) {
+        } catch (TaskNotFoundException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    // Missing size -> default page size, anything above the configured maximum is capped
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    // ?view=full (default) or ?view=summary - anything else is a 400 (BadRequestException, see ApiExceptionHandler)
+    private static boolean isSummaryView(String view) {
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new BadRequestException("Unknown view '" + view + "', expected 'full' or 'summary'");
+    }
 
 }
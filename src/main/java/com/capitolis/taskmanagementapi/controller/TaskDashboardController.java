@@ -0,0 +1,70 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.dto.TaskDashboard;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.service.AsyncTaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Endpoints that combine several lookups, run in parallel through AsyncTaskService.
+ * They return a CompletableFuture, so the request thread is released while the queries run (Spring MVC async).
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@CrossOrigin(origins = "*")
+public class TaskDashboardController {
+
+    private final AsyncTaskService asyncTaskService;
+
+    @Value("${app.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    @Autowired
+    public TaskDashboardController(AsyncTaskService asyncTaskService) {
+        this.asyncTaskService = asyncTaskService;
+    }
+
+    // GET /api/tasks/dashboard?size=10 - counts per status, the first page of each status and the overdue tasks
+    @GetMapping("/dashboard")
+    public CompletableFuture<ResponseEntity<TaskDashboard>> getDashboard(@RequestParam(defaultValue = "10") int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        return asyncTaskService.getDashboard(pageSize, pageSize).thenApply(ResponseEntity::ok);
+    }
+
+    // GET /api/tasks/lookup?ids=1,2,3 - several tasks by id in one call (missing ids are left out)
+    @GetMapping("/lookup")
+    public CompletableFuture<ResponseEntity<List<Task>>> lookup(@RequestParam List<Long> ids) {
+        if (ids.size() > maxPageSize) {
+            throw new BadRequestException("Too many ids in one request: " + ids.size() + " (max " + maxPageSize + ")");
+        }
+        return asyncTaskService.getTasksByIds(ids).thenApply(ResponseEntity::ok);
+    }
+
+    // The async executor's queue is full - try again shortly
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleBusy(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "Too many concurrent lookups"));
+    }
+
+    // A lookup took longer than app.async.timeout-ms
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<Map<String, String>> handleTimeout(TimeoutException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(Map.of("error", "Lookup timed out"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.dto.DueTask;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.schedule.TaskDueDateScheduler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Overdue and upcoming open tasks, answered from the in-memory due-date index (no database query).
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@CrossOrigin(origins = "*")
+public class TaskDueDateController {
+
+    private final TaskDueDateScheduler dueDateScheduler;
+
+    @Value("${app.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    @Autowired
+    public TaskDueDateController(TaskDueDateScheduler dueDateScheduler) {
+        this.dueDateScheduler = dueDateScheduler;
+    }
+
+    // GET /api/tasks/overdue?size=100 - Open tasks past their due date, most overdue first
+    @GetMapping("/overdue")
+    public ResponseEntity<List<DueTask>> getOverdue(@RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(dueDateScheduler.getOverdue(resolvePageSize(size)));
+    }
+
+    // GET /api/tasks/upcoming?within=24h - Open tasks due in the next 24 hours, soonest first
+    // within accepts 30m / 24h / 7d or an ISO-8601 duration (PT24H)
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<DueTask>> getUpcoming(@RequestParam(defaultValue = "24h") String within,
+                                                     @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(dueDateScheduler.getUpcoming(parseWithin(within), resolvePageSize(size)));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    static Duration parseWithin(String within) {
+        String value = within.trim().toLowerCase(Locale.ROOT);
+        try {
+            Duration duration;
+            if (value.startsWith("p")) {
+                duration = Duration.parse(value.toUpperCase(Locale.ROOT));
+            } else {
+                long amount = Long.parseLong(value.substring(0, value.length() - 1));
+                duration = switch (value.charAt(value.length() - 1)) {
+                    case 'm' -> Duration.ofMinutes(amount);
+                    case 'h' -> Duration.ofHours(amount);
+                    case 'd' -> Duration.ofDays(amount);
+                    default -> throw new BadRequestException("Unknown unit in within=" + within);
+                };
+            }
+            if (duration.isNegative()) {
+                throw new BadRequestException("within must not be negative");
+            }
+            return duration;
+        } catch (NumberFormatException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid within=" + within + ", expected e.g. 30m, 24h, 7d or PT24H");
+        }
+    }
+}
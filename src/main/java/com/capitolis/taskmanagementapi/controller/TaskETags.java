@@ -0,0 +1,35 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Strong ETag of a single task: its id plus the last time it changed, plus the media type for anything but JSON.
+ * updatedAt is truncated to microseconds, the precision the database stores, so the tag computed from a freshly
+ * created entity matches the one computed from the row read back later.
+ * A strong tag promises byte-identical bodies, so JSON, CBOR, Smile and protobuf each get their own tag
+ * ("5-abc", "5-abc-cbor", ...) - a tag from one format never turns a request for another into a 304.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String forTask(Task task, MediaType representation) {
+        return forTask(task.getId(), task.getUpdatedAt(), representation);
+    }
+
+    static String forTask(Long id, LocalDateTime updatedAt, MediaType representation) {
+        String format = MediaType.APPLICATION_JSON.equalsTypeAndSubtype(representation) ? "" : "-" + representation.getSubtype();
+        if (updatedAt == null) {
+            return "\"" + id + format + "\"";
+        }
+        LocalDateTime micros = updatedAt.truncatedTo(ChronoUnit.MICROS);
+        long epochMicros = micros.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + micros.getNano() / 1_000;
+        return "\"" + id + "-" + Long.toString(epochMicros, 36) + format + "\"";
+    }
+}
@@ -0,0 +1,34 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.event.TaskEventBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Change feed of task mutations as Server-Sent Events, so open pages apply deltas instead of re-fetching the list.
+ */
+@RestController
+@RequestMapping("/api/tasks/events")
+@CrossOrigin(origins = "*")
+public class TaskEventController {
+
+    private final TaskEventBroadcaster broadcaster;
+
+    @Autowired
+    public TaskEventController(TaskEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    // GET /api/tasks/events - Stream of created / updated / completed / deleted / status-changed events
+    // EventSource sends Last-Event-ID by itself when it reconnects, and the events missed in between are replayed
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return broadcaster.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,58 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.dto.IngestStatus;
+import com.capitolis.taskmanagementapi.ingest.TaskIngestQueue;
+import com.capitolis.taskmanagementapi.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * Asynchronous task creation for high-rate clients - the task is queued and written in a batch a few ms later.
+ * Only registered when app.ingest.enabled=true.
+ */
+@RestController
+@RequestMapping("/api/tasks/ingest")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "app.ingest.enabled", havingValue = "true")
+public class TaskIngestController {
+
+    private final TaskIngestQueue ingestQueue;
+
+    @Autowired
+    public TaskIngestController(TaskIngestQueue ingestQueue) {
+        this.ingestQueue = ingestQueue;
+    }
+
+    // POST /api/tasks/ingest - Same body as POST /api/tasks
+    // 202 Accepted + tracking id (Location points at its status), or 429 + Retry-After when the queue is full
+    @PostMapping
+    public ResponseEntity<IngestStatus> ingestTask(@RequestBody Task task) {
+        return ingestQueue.submit(task)
+                .map(queued -> ResponseEntity.accepted()
+                        .location(URI.create("/api/tasks/ingest/" + queued.trackingId()))
+                        .body(queued))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
+    }
+
+    // GET /api/tasks/ingest/{trackingId} - QUEUED, CREATED (with the task id) or FAILED
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<IngestStatus> getStatus(@PathVariable String trackingId) {
+        return ingestQueue.getStatus(trackingId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
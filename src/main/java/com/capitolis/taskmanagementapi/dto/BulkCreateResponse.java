@@ -0,0 +1,9 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import java.util.List;
+
+/**
+ * Response of POST /api/tasks/bulk - totals plus one result per submitted task (in request order).
+ */
+public record BulkCreateResponse(int created, int rejected, List<BulkCreateResult> results) {
+}
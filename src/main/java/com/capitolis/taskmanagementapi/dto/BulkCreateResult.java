@@ -0,0 +1,21 @@
+package com.capitolis.taskmanagementapi.dto;
+
+/**
+ * Outcome of a single item in a POST /api/tasks/bulk request.
+ * index points at the position of the item in the request array, so clients can match results to what they sent.
+ */
+public record BulkCreateResult(int index, Outcome outcome, Long id, String error) {
+
+    public enum Outcome {
+        CREATED,
+        REJECTED
+    }
+
+    public static BulkCreateResult created(int index, Long id) {
+        return new BulkCreateResult(index, Outcome.CREATED, id, null);
+    }
+
+    public static BulkCreateResult rejected(int index, String error) {
+        return new BulkCreateResult(index, Outcome.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,30 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Body of PATCH /api/tasks/bulk/status - move many tasks to targetStatus with one UPDATE statement.
+ * Either list the ids, or describe the tasks with a filter (any combination of status, dueBefore and keyword).
+
+ * { "ids": [1, 2, 3], "targetStatus": "DONE" }
+ * { "status": "IN_PROGRESS", "dueBefore": "2026-01-01T00:00:00", "targetStatus": "DONE" }
+ */
+public record BulkStatusUpdateRequest(
+        List<Long> ids,             // Tasks to update - when present, the filter fields are ignored
+        TaskStatus status,          // Filter: only tasks currently in this status
+        LocalDateTime dueBefore,    // Filter: only tasks due before this date
+        String keyword,             // Filter: only tasks whose title contains this keyword (case-insensitive)
+        TaskStatus targetStatus     // The status every matching task is moved to
+) {
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return status != null || dueBefore != null || (keyword != null && !keyword.isBlank());
+    }
+}
@@ -0,0 +1,52 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) paginated listing.
+ * Instead of OFFSET (which makes the database walk and throw away every skipped row), each page remembers the last id it returned.
+ * The next request asks for "rows with id greater than X", which is a cheap range seek on the primary key no matter how deep the client pages.
+
+ * {
+ *   "items": [ ... ],
+ *   "nextCursor": "MTIz",   // opaque token, pass back as ?cursor=MTIz to get the next page
+ *   "hasMore": true
+ * }
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasMore) {
+
+    // Builds a page from rows that were fetched with LIMIT size + 1 - the extra row only tells us whether another page exists
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> idExtractor) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, size));
+        Long lastId = idExtractor.apply(items.getLast());
+        return new CursorPage<>(items, encodeCursor(lastId), true);
+    }
+
+    // The cursor is just the last id, Base64 encoded so clients treat it as an opaque token and don't build it themselves
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // No cursor means "start from the beginning" - ids are generated from 1 upwards
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) { // NumberFormatException is also an IllegalArgumentException
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task with a due date, as kept by the due-date scheduler and returned by GET /api/tasks/overdue and /upcoming.
+ * Also used as a Spring Data projection, so loading the scheduler selects four columns instead of whole rows.
+ */
+public record DueTask(Long id, String title, TaskStatus status, LocalDateTime dueDate) {
+
+    public static DueTask of(Task task) {
+        return new DueTask(task.getId(), task.getTitle(), task.getStatus(), task.getDueDate());
+    }
+}
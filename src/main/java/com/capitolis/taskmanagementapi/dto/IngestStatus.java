@@ -0,0 +1,26 @@
+package com.capitolis.taskmanagementapi.dto;
+
+/**
+ * State of a task submitted to POST /api/tasks/ingest, looked up with GET /api/tasks/ingest/{trackingId}.
+ * id is the id of the created task once it has been written.
+ */
+public record IngestStatus(String trackingId, State state, Long id, String error) {
+
+    public enum State {
+        QUEUED,
+        CREATED,
+        FAILED
+    }
+
+    public static IngestStatus queued(String trackingId) {
+        return new IngestStatus(trackingId, State.QUEUED, null, null);
+    }
+
+    public static IngestStatus created(String trackingId, Long id) {
+        return new IngestStatus(trackingId, State.CREATED, id, null);
+    }
+
+    public static IngestStatus failed(String trackingId, String error) {
+        return new IngestStatus(trackingId, State.FAILED, null, error);
+    }
+}
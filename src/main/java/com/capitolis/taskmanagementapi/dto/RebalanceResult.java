@@ -0,0 +1,8 @@
+package com.capitolis.taskmanagementapi.dto;
+
+/**
+ * Outcome of POST /api/sharded/tasks/shards/rebalance - how many tasks changed shard when going from
+ * fromShards to toShards.
+ */
+public record RebalanceResult(int fromShards, int toShards, long moved) {
+}
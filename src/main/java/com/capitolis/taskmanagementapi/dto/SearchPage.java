@@ -0,0 +1,17 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.model.Task;
+
+import java.util.List;
+
+/**
+ * One page of ranked full-text search results (best match first).
+ * total is the number of matching tasks, use offset + items.size() < total to know if there is a next page.
+ * truncated is true when a short prefix matched too many words and only the most common ones were searched -
+ * total is then a lower bound, and a longer prefix finds the rest.
+ */
+public record SearchPage(List<Result> items, int total, int offset, boolean truncated) {
+
+    public record Result(Task task, double score) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import java.util.List;
+
+/**
+ * Task distribution over the shards (GET /api/sharded/tasks/shards).
+ * tasksPerShard has one entry per configured database - the ones past shardCount are spare and stay empty.
+ */
+public record ShardStats(int shardCount, List<Long> tasksPerShard) {
+}
@@ -0,0 +1,22 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Body of PUT /api/sharded/tasks/{id}. Unlike a Task (whose status defaults to TODO), a missing status stays null,
+ * so the update keeps the task's current status instead of resetting it.
+ */
+public record ShardedTaskUpdateRequest(String title, String description, TaskStatus status, LocalDateTime dueDate) {
+
+    public Task toTask() {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
@@ -0,0 +1,15 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of GET /api/tasks/dashboard - everything a dashboard page needs in one call.
+ * byStatus holds the first page (summaries) of each status, counts the number of tasks per status.
+ */
+public record TaskDashboard(Map<TaskStatus, Long> counts,
+                            Map<TaskStatus, CursorPage<TaskSummary>> byStatus,
+                            List<DueTask> overdue) {
+}
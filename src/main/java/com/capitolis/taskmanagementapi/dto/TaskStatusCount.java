@@ -0,0 +1,13 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+/**
+ * Projection for the "SELECT status, COUNT(*) ... GROUP BY status" query - Spring Data fills it from the query aliases.
+ */
+public interface TaskStatusCount {
+
+    TaskStatus getStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,11 @@
+package com.capitolis.taskmanagementapi.dto;
+
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+/**
+ * The columns a task board needs - returned by the list endpoints with ?view=summary.
+ * Used as a Spring Data projection, so the query selects only these three columns instead of the whole row
+ * (no 1000-char description, no timestamps), and the JSON is a fraction of the size.
+ */
+public record TaskSummary(Long id, String title, TaskStatus status) {
+}
@@ -0,0 +1,87 @@
+package com.capitolis.taskmanagementapi.event;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Published by TaskService after every write, so other components (search index, caches, counters...) can stay in sync
+ * without TaskService knowing about them.
+ * We publish from the service instead of using JPA @PostPersist/@PostUpdate callbacks because the bulk and single-statement
+ * UPDATE/DELETE paths never load entities, so entity callbacks would miss them.
+
+ * tasks        - the task(s) as they look after the change (empty for deletes and set-based status changes)
+ * ids          - ids of the affected tasks, or null when the change matched a filter and the ids are unknown
+ * statusDeltas - exact change of the number of tasks per status, e.g. {TODO=-3, DONE=+3} (statuses that didn't change are left out)
+ */
+public record TaskChangedEvent(ChangeType type, List<Task> tasks, List<Long> ids, Map<TaskStatus, Long> statusDeltas) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        COMPLETED,
+        DELETED,
+        STATUS_CHANGED // Set-based status transition (PATCH /api/tasks/bulk/status)
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return created(List.of(task));
+    }
+
+    public static TaskChangedEvent created(List<Task> tasks) {
+        Map<TaskStatus, Long> deltas = new EnumMap<>(TaskStatus.class);
+        for (Task task : tasks) {
+            deltas.merge(task.getStatus(), 1L, Long::sum);
+        }
+        return new TaskChangedEvent(ChangeType.CREATED, tasks, idsOf(tasks), deltas);
+    }
+
+    // previousStatus - the status the task had before the update
+    public static TaskChangedEvent updated(Task task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(ChangeType.UPDATED, List.of(task), List.of(task.getId()),
+                moved(Map.of(previousStatus, 1L), task.getStatus()));
+    }
+
+    public static TaskChangedEvent completed(Task task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(ChangeType.COMPLETED, List.of(task), List.of(task.getId()),
+                moved(Map.of(previousStatus, 1L), task.getStatus()));
+    }
+
+    // deletedByStatus - how many of the deleted tasks had each status
+    public static TaskChangedEvent deleted(List<Long> ids, Map<TaskStatus, Long> deletedByStatus) {
+        Map<TaskStatus, Long> deltas = new EnumMap<>(TaskStatus.class);
+        deletedByStatus.forEach((status, count) -> deltas.merge(status, -count, Long::sum));
+        return new TaskChangedEvent(ChangeType.DELETED, List.of(), ids, withoutZeros(deltas));
+    }
+
+    // ids == null means "some rows matching a filter changed" - listeners that need exact rows must resync
+    // movedFrom - how many tasks left each source status for the target status
+    public static TaskChangedEvent statusChanged(List<Long> ids, Map<TaskStatus, Long> movedFrom, TaskStatus target) {
+        return new TaskChangedEvent(ChangeType.STATUS_CHANGED, List.of(), ids, moved(movedFrom, target));
+    }
+
+    public boolean affectsUnknownRows() {
+        return ids == null;
+    }
+
+    private static Map<TaskStatus, Long> moved(Map<TaskStatus, Long> movedFrom, TaskStatus target) {
+        Map<TaskStatus, Long> deltas = new EnumMap<>(TaskStatus.class);
+        movedFrom.forEach((source, count) -> {
+            deltas.merge(source, -count, Long::sum);
+            deltas.merge(target, count, Long::sum);
+        });
+        return withoutZeros(deltas);
+    }
+
+    private static Map<TaskStatus, Long> withoutZeros(Map<TaskStatus, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    private static List<Long> idsOf(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
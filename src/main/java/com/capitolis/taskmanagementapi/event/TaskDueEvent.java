@@ -0,0 +1,17 @@
+package com.capitolis.taskmanagementapi.event;
+
+import com.capitolis.taskmanagementapi.dto.DueTask;
+
+import java.util.List;
+
+/**
+ * Published by TaskDueDateScheduler when open tasks pass their due date (OVERDUE)
+ * or get within the due-soon window of it (DUE_SOON). One event per kind per tick, with every task that fired.
+ */
+public record TaskDueEvent(Kind kind, List<DueTask> tasks) {
+
+    public enum Kind {
+        OVERDUE,
+        DUE_SOON
+    }
+}
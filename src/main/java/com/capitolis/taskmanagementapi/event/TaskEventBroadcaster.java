@@ -0,0 +1,272 @@
+package com.capitolis.taskmanagementapi.event;
+
+import com.capitolis.taskmanagementapi.exception.TooManySubscribersException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed task changes to every open GET /api/tasks/events connection (Server-Sent Events).
+
+ * - Each TaskChangedEvent is serialized once and appended to a TaskEventLog, so reconnecting clients can resume from
+ *   Last-Event-ID. Event ids are "<instance>-<sequence>": an id from before a restart gets a "reset" event instead.
+ * - Every subscriber has its own bounded queue, drained by its own virtual thread (started when there is something
+ *   to send). Publishing only does non-blocking offers, and a write blocked on one client's socket holds only that
+ *   client's thread - a slow client never delays the request that changed a task or the other clients.
+ * - A subscriber whose queue is full, or whose current write has been blocked for longer than
+ *   app.events.send-timeout-ms, is disconnected. Its EventSource reconnects with Last-Event-ID and catches up
+ *   from the log (or gets "reset" when it fell too far behind).
+ */
+@Component
+public class TaskEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventBroadcaster.class);
+    private static final TaskFeedEvent HEARTBEAT = new TaskFeedEvent(0, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final TaskEventLog eventLog;
+    private final Object lock = new Object(); // Orders appends to the log with subscribers joining (no gap, no duplicate)
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-events-sender-", 0).factory());
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(daemon("task-events-heartbeat"));
+    private final long sendTimeoutNanos;
+
+    @Value("${app.events.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${app.events.buffer-size:256}")
+    private int bufferSize; // Events queued per subscriber before it counts as too slow
+
+    @Value("${app.events.timeout-ms:1800000}")
+    private long timeoutMs; // The browser reconnects (with Last-Event-ID) when a connection times out
+
+    @Autowired
+    public TaskEventBroadcaster(ObjectMapper objectMapper,
+                                @Value("${app.events.replay-size:1024}") int replaySize,
+                                @Value("${app.events.replay-max-bytes:4194304}") long replayMaxBytes,
+                                @Value("${app.events.send-timeout-ms:10000}") long sendTimeoutMs,
+                                @Value("${app.events.heartbeat-ms:15000}") long heartbeatMs) {
+        this.objectMapper = objectMapper;
+        this.eventLog = new TaskEventLog(replaySize, replayMaxBytes);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        // Comment line every few seconds - keeps proxies from closing idle connections and detects dead clients
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        long checkMs = Math.max(1, sendTimeoutMs / 2);
+        heartbeats.scheduleAtFixedRate(this::dropStuckSubscribers, checkMs, checkMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a feed connection. With a Last-Event-ID from this instance the missed events are replayed first,
+     * otherwise the client gets a "reset" event meaning "reload the list, then apply deltas".
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new TooManySubscribersException(maxSubscribers);
+        }
+        SseEmitter emitter = newEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (lock) {
+            if (lastEventId != null) {
+                Optional<List<TaskFeedEvent>> missed = parseSequence(lastEventId).flatMap(eventLog::since);
+                if (missed.isPresent() && missed.get().size() <= bufferSize) {
+                    missed.get().forEach(subscriber.queue::offer);
+                } else {
+                    subscriber.queue.offer(new TaskFeedEvent(eventLog.lastSequence(), "reset", "{}"));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Overridden by tests to capture what is sent
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    // After commit, so clients never see a change that was rolled back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        String name = event.type().name().toLowerCase(Locale.ROOT).replace('_', '-');
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("tasks", event.tasks());
+        payload.put("ids", event.ids()); // null for filter-based status changes - the client reloads
+        broadcast(name, objectMapper.writeValueAsString(payload));
+    }
+
+    // Due-date notifications from TaskDueDateScheduler, as "overdue" / "due-soon" events
+    @EventListener
+    public void onTaskDue(TaskDueEvent event) {
+        String name = event.kind().name().toLowerCase(Locale.ROOT).replace('_', '-');
+        broadcast(name, objectMapper.writeValueAsString(Map.of("tasks", event.tasks())));
+    }
+
+    private void broadcast(String name, String data) {
+        List<Subscriber> ready = new ArrayList<>();
+        synchronized (lock) {
+            TaskFeedEvent feedEvent = eventLog.append(name, data);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.queue.offer(feedEvent)) {
+                    ready.add(subscriber);
+                } else {
+                    disconnect(subscriber, "buffer full");
+                }
+            }
+        }
+        ready.forEach(this::scheduleDrain);
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(HEARTBEAT)) {
+                scheduleDrain(subscriber);
+            } else {
+                disconnect(subscriber, "buffer full");
+            }
+        }
+    }
+
+    // A write that blocks for longer than the send timeout means the client stopped reading
+    private void dropStuckSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sending && now - subscriber.sendStartedNanos > sendTimeoutNanos) {
+                disconnect(subscriber, "send timed out");
+            }
+        }
+    }
+
+    // At most one sender works on a subscriber at a time, so its events go out in order
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false); // Shutting down
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            TaskFeedEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.sendStartedNanos = System.nanoTime();
+                subscriber.sending = true;
+                if (event == HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(instanceId + "-" + event.sequence())
+                            .name(event.name())
+                            .data(event.data()));
+                }
+                subscriber.sending = false;
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber); // Client went away or the emitter already completed
+            subscriber.queue.clear();
+        } finally {
+            subscriber.sending = false;
+            subscriber.draining.set(false);
+        }
+        // An event may have been queued after the last poll but before draining was reset
+        if (!subscriber.queue.isEmpty() && subscribers.contains(subscriber)) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // complete() waits for the emitter's write lock, which a blocked send holds - so it runs on its own thread
+    private void disconnect(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Dropping change feed subscriber: {}", reason);
+            subscriber.queue.clear();
+            try {
+                senders.execute(subscriber.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // Shutting down - shutdown() completes every emitter
+            }
+        }
+    }
+
+    // "<instance>-<sequence>" -> sequence, empty when the id is malformed or from another instance / before a restart
+    private Optional<Long> parseSequence(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(instanceId)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(lastEventId.substring(dash + 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final BlockingQueue<TaskFeedEvent> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean sending;
+        volatile long sendStartedNanos;
+
+        Subscriber(SseEmitter emitter, BlockingQueue<TaskFeedEvent> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.capitolis.taskmanagementapi.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Buffer of the most recent feed events, so a client that reconnects with Last-Event-ID gets what it missed.
+ * Keeps at most `capacity` events and at most `maxBytes` of event data (name + JSON, one byte per char) - a bulk
+ * change can be a large payload, so the count alone doesn't bound the memory. A client that was away longer than
+ * the buffer covers has to reload instead.
+ * Not thread-safe: TaskEventBroadcaster calls it under its own lock.
+ */
+public class TaskEventLog {
+
+    private final int capacity;
+    private final long maxBytes;
+    private final Deque<TaskFeedEvent> events = new ArrayDeque<>();
+    private long bytes;
+    private long lastSequence; // Sequence of the newest event, 0 while the log is empty
+
+    public TaskEventLog(int capacity, long maxBytes) {
+        if (capacity <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("capacity and maxBytes must be positive");
+        }
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+    }
+
+    // An event bigger than maxBytes isn't kept at all - a client that missed it reloads
+    public TaskFeedEvent append(String name, String data) {
+        TaskFeedEvent event = new TaskFeedEvent(++lastSequence, name, data);
+        events.addLast(event);
+        bytes += size(event);
+        while (events.size() > capacity || bytes > maxBytes) {
+            bytes -= size(events.removeFirst());
+        }
+        return event;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    // Approximate memory held by the buffered events
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Events after lastSeen, oldest first.
+     * Empty Optional when they can't be replayed: lastSeen fell out of the buffer, or it's ahead of this log (stale client).
+     */
+    public Optional<List<TaskFeedEvent>> since(long lastSeen) {
+        long oldestKept = events.isEmpty() ? lastSequence + 1 : events.getFirst().sequence();
+        if (lastSeen > lastSequence || lastSeen < oldestKept - 1) {
+            return Optional.empty();
+        }
+        List<TaskFeedEvent> missed = new ArrayList<>((int) (lastSequence - lastSeen));
+        for (TaskFeedEvent event : events) {
+            if (event.sequence() > lastSeen) {
+                missed.add(event);
+            }
+        }
+        return Optional.of(missed);
+    }
+
+    private static long size(TaskFeedEvent event) {
+        return event.name().length() + event.data().length();
+    }
+}
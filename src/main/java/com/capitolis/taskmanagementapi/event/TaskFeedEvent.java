@@ -0,0 +1,11 @@
+package com.capitolis.taskmanagementapi.event;
+
+/**
+ * One entry of the change feed (GET /api/tasks/events), already serialized so it is built once and sent to every subscriber.
+
+ * sequence - position in the feed, increases by one per event
+ * name     - SSE event name: created, updated, completed, deleted, status-changed or reset
+ * data     - JSON payload: {"tasks": [...], "ids": [...]}
+ */
+public record TaskFeedEvent(long sequence, String name, String data) {
+}
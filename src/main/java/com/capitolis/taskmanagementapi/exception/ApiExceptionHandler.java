@@ -0,0 +1,20 @@
+package com.capitolis.taskmanagementapi.exception;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Error responses shared by every controller.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // The client's fault -> 400 Bad Request, e.g. {"error": "Invalid cursor: xyz"}
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(BadRequestException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
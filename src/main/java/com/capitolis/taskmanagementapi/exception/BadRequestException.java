@@ -0,0 +1,13 @@
+package com.capitolis.taskmanagementapi.exception;
+
+/**
+ * Thrown when a request is invalid (bad cursor, unknown ?view=, too many ids, missing title...).
+ * ApiExceptionHandler turns it into 400 Bad Request with the message as the error - so the message must be written
+ * for the client. Any other exception (including an internal IllegalArgumentException) stays a 500.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
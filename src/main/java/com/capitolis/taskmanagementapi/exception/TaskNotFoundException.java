@@ -0,0 +1,16 @@
+package com.capitolis.taskmanagementapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown by the service layer when a task id does not exist.
+ * @ResponseStatus makes Spring answer 404 Not Found for any endpoint that lets it escape.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class TaskNotFoundException extends RuntimeException {
+
+    public TaskNotFoundException(Long id) {
+        super("Task not found with id: " + id);
+    }
+}
@@ -0,0 +1,16 @@
+package com.capitolis.taskmanagementapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the change feed already has app.events.max-subscribers open connections.
+ * 503 tells EventSource clients to back off and retry later.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TooManySubscribersException extends RuntimeException {
+
+    public TooManySubscribersException(int limit) {
+        super("Too many change feed subscribers (limit " + limit + ")");
+    }
+}
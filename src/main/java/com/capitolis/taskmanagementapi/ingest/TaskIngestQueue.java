@@ -0,0 +1,253 @@
+package com.capitolis.taskmanagementapi.ingest;
+
+import com.capitolis.taskmanagementapi.dto.BulkCreateResponse;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResult;
+import com.capitolis.taskmanagementapi.dto.IngestStatus;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind queue behind POST /api/tasks/ingest, for bursts of creates that don't need the new task in the response.
+
+ * - submit() only validates the task and offers it to a bounded queue, then returns a tracking id (202 Accepted).
+ *   When the queue is full the caller gets nothing back (429) - back-pressure instead of unbounded memory.
+ * - One writer thread drains the queue in batches of batch-size, or whatever arrived within flush-interval-ms,
+ *   and writes each batch with TaskService.createTasks - one transaction, JDBC batch inserts, one TaskChangedEvent.
+ *   A failed batch is retried with backoff, then its tasks are reported as FAILED.
+ * - On shutdown (SmartLifecycle.stop, after the web server stopped taking requests) new submits are refused and the
+ *   writer flushes everything still queued before the DataSource is closed, so an accepted task is never dropped.
+
+ * Enabled with app.ingest.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.ingest.enabled", havingValue = "true")
+public class TaskIngestQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIngestQueue.class);
+
+    // Stops after the web server (DEFAULT_PHASE - 2048), so no request can submit while the queue is being flushed
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final TaskService taskService;
+    private final BlockingQueue<PendingTask> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    // Recent outcomes by tracking id - bounded, a client polling for a status long after the write gets 404
+    private final Cache<String, IngestStatus> statuses;
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Submits hold the read lock, stop() takes the write lock - once stop() has it, nothing more can enter the queue
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private volatile Runnable onStopped;
+    private Thread writer;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public TaskIngestQueue(TaskService taskService, MeterRegistry meterRegistry,
+                           @Value("${app.ingest.queue-capacity:10000}") int queueCapacity,
+                           @Value("${app.ingest.batch-size:500}") int batchSize,
+                           @Value("${app.ingest.flush-interval-ms:50}") long flushIntervalMs,
+                           @Value("${app.ingest.max-retries:3}") int maxRetries,
+                           @Value("${app.ingest.retry-backoff-ms:200}") long retryBackoffMs,
+                           @Value("${app.ingest.tracking-size:100000}") long trackingSize) {
+        this.taskService = taskService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+        this.statuses = Caffeine.newBuilder().maximumSize(trackingSize).expireAfterWrite(Duration.ofHours(1)).build();
+
+        Gauge.builder("tasks.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Tasks accepted but not yet written").register(meterRegistry);
+        this.acceptedCounter = Counter.builder("tasks.ingest.accepted").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("tasks.ingest.rejected")
+                .description("Submits refused because the queue was full").register(meterRegistry);
+    }
+
+    /**
+     * Queue a task for creation. Returns the QUEUED status with its tracking id,
+     * or empty when the queue is full or shutting down (the caller should retry later).
+     */
+    public Optional<IngestStatus> submit(Task task) {
+        if (task == null || task.getTitle() == null || task.getTitle().isBlank()) {
+            throw new BadRequestException("title is required");
+        }
+        String trackingId = instanceId + "-" + sequence.incrementAndGet();
+
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting || !queue.offer(new PendingTask(trackingId, task))) {
+                rejectedCounter.increment();
+                return Optional.empty();
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+
+        IngestStatus queued = IngestStatus.queued(trackingId);
+        statuses.asMap().putIfAbsent(trackingId, queued); // The writer may already have stored the outcome
+        acceptedCounter.increment();
+        return Optional.of(queued);
+    }
+
+    public Optional<IngestStatus> getStatus(String trackingId) {
+        return Optional.ofNullable(statuses.getIfPresent(trackingId));
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+        running = true;
+        writer = new Thread(this::runWriter, "task-ingest-writer");
+        writer.start(); // Not a daemon - the JVM must not exit while accepted tasks are still queued
+    }
+
+    @Override
+    public void stop() {
+        stop(() -> {
+        });
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Refuse new submits, then let the writer flush what is left and report back when the queue is empty
+    // (the writer notices within one flush interval - it isn't interrupted, so a batch being written always completes)
+    @Override
+    public void stop(Runnable callback) {
+        onStopped = callback;
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        log.info("Flushing {} queued task(s) before shutdown", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runWriter() {
+        List<PendingTask> batch = new ArrayList<>(batchSize);
+        try {
+            while (accepting || !queue.isEmpty()) {
+                fillBatch(batch);
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Ingest writer interrupted with {} task(s) still queued", queue.size() + batch.size());
+        } finally {
+            running = false;
+            Runnable callback = onStopped;
+            if (callback != null) {
+                callback.run();
+            }
+        }
+    }
+
+    // Waits for the first task, then collects more until the batch is full or the flush interval has passed
+    private void fillBatch(List<PendingTask> batch) throws InterruptedException {
+        PendingTask first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !accepting) {
+                return; // While shutting down, don't wait for stragglers - nothing new can arrive
+            }
+            PendingTask next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingTask> batch) throws InterruptedException {
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (PendingTask pending : batch) {
+            tasks.add(pending.task());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                BulkCreateResponse response = taskService.createTasks(tasks);
+                for (BulkCreateResult result : response.results()) {
+                    String trackingId = batch.get(result.index()).trackingId();
+                    statuses.put(trackingId, result.outcome() == BulkCreateResult.Outcome.CREATED
+                            ? IngestStatus.created(trackingId, result.id())
+                            : IngestStatus.failed(trackingId, result.error()));
+                }
+                return;
+            } catch (RuntimeException e) {
+                if (attempt > maxRetries) {
+                    log.error("Giving up on a batch of {} ingested task(s) after {} attempts", batch.size(), attempt, e);
+                    for (PendingTask pending : batch) {
+                        statuses.put(pending.trackingId(), IngestStatus.failed(pending.trackingId(), "could not be saved"));
+                    }
+                    return;
+                }
+                log.warn("Writing a batch of {} ingested task(s) failed (attempt {}), retrying", batch.size(), attempt, e);
+                Thread.sleep(retryBackoffMs * attempt);
+            }
+        }
+    }
+
+    private record PendingTask(String trackingId, Task task) {
+    }
+}
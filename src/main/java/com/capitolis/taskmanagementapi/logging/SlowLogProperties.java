@@ -0,0 +1,38 @@
+package com.capitolis.taskmanagementapi.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Thresholds of the slow SQL / slow request log (app.slow-log.*).
+ * Anything slower than the threshold is logged at WARN; on top of that, sample-rate (0.0 - 1.0) of all the other
+ * statements and requests are logged at INFO, so there is always a small baseline of "normal" traffic to compare with.
+ */
+@Component
+@ConditionalOnProperty(name = "app.slow-log.enabled", havingValue = "true")
+public class SlowLogProperties {
+
+    @Value("${app.slow-log.sql-threshold-ms:100}")
+    private long sqlThresholdMs;
+
+    @Value("${app.slow-log.request-threshold-ms:500}")
+    private long requestThresholdMs;
+
+    @Value("${app.slow-log.sample-rate:0.0}")
+    private double sampleRate;
+
+    public long sqlThresholdMs() {
+        return sqlThresholdMs;
+    }
+
+    public long requestThresholdMs() {
+        return requestThresholdMs;
+    }
+
+    public boolean sampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
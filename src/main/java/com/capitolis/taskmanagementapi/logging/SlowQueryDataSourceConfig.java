@@ -0,0 +1,38 @@
+package com.capitolis.taskmanagementapi.logging;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the DataSource in a datasource-proxy ProxyDataSource that times every statement and hands it to
+ * SlowQueryListener. The proxy still unwraps to the Hikari pool, so pool metrics keep working.
+ * Only active with app.slow-log.enabled=true (the "prod" profile).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.slow-log.enabled", havingValue = "true")
+public class SlowQueryDataSourceConfig {
+
+    // static: a BeanPostProcessor is created before regular beans - the properties are looked up lazily
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowLogProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SlowQueryListener(properties.getObject()))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
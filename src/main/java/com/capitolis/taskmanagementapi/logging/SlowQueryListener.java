@@ -0,0 +1,74 @@
+package com.capitolis.taskmanagementapi.logging;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Called by datasource-proxy after every JDBC execution with its duration, SQL and bind values.
+ * Only slow (>= sql-threshold-ms) and sampled executions are formatted and logged - everything else costs a comparison.
+ * Logger name "tasks.slow-sql", so it can be routed or muted on its own.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("tasks.slow-sql");
+
+    private final SlowLogProperties properties;
+
+    public SlowQueryListener(SlowLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Nothing to do before - the duration is measured by datasource-proxy
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMs = execInfo.getElapsedTime();
+        if (elapsedMs >= properties.sqlThresholdMs()) {
+            log.warn("Slow SQL {} ms{}: {}", elapsedMs, describe(execInfo), format(queryInfoList));
+        } else if (properties.sampled()) {
+            log.info("Sampled SQL {} ms{}: {}", elapsedMs, describe(execInfo), format(queryInfoList));
+        }
+    }
+
+    private static String describe(ExecutionInfo execInfo) {
+        StringBuilder details = new StringBuilder();
+        if (execInfo.isBatch()) {
+            details.append(" (batch of ").append(execInfo.getBatchSize()).append(')');
+        }
+        if (!execInfo.isSuccess()) {
+            details.append(" (failed: ").append(execInfo.getThrowable()).append(')');
+        }
+        return details.toString();
+    }
+
+    // "select ... where t.id=? params [42]" - one params list per batch entry
+    private static String format(List<QueryInfo> queryInfoList) {
+        List<String> statements = new ArrayList<>(queryInfoList.size());
+        for (QueryInfo queryInfo : queryInfoList) {
+            String params = queryInfo.getParametersList().stream()
+                    .map(SlowQueryListener::bindValues)
+                    .collect(Collectors.joining(", "));
+            statements.add(queryInfo.getQuery() + (params.isEmpty() ? "" : " params " + params));
+        }
+        return String.join("; ", statements);
+    }
+
+    private static String bindValues(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(operation -> "setNull".equals(operation.getMethod().getName())
+                        ? "null"
+                        : String.valueOf(operation.getArgs()[1]))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.capitolis.taskmanagementapi.logging;
+
+import com.capitolis.taskmanagementapi.metrics.StatementCountingInspector;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Logs requests slower than app.slow-log.request-threshold-ms (WARN) plus a sampled share of the rest (INFO),
+ * with status and the number of SQL statements they ran. Replaces org.springframework.web=DEBUG, which logs every
+ * request on the request thread. Logger name "tasks.slow-request".
+ * Outermost filter, so the time includes the other filters (concurrency limiter wait included).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.slow-log.enabled", havingValue = "true")
+public class SlowRequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger("tasks.slow-request");
+
+    private final SlowLogProperties properties;
+
+    @Autowired
+    public SlowRequestLogFilter(SlowLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        StatementCountingInspector.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // Async requests (export, change feed) only return here when they start streaming - not worth timing
+            if (!request.isAsyncStarted()) {
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                if (elapsedMs >= properties.requestThresholdMs()) {
+                    log.warn("Slow request {} {} -> {} in {} ms, {} SQL statements", request.getMethod(), target(request),
+                            response.getStatus(), elapsedMs, StatementCountingInspector.current());
+                } else if (properties.sampled()) {
+                    log.info("Sampled request {} {} -> {} in {} ms, {} SQL statements", request.getMethod(), target(request),
+                            response.getStatus(), elapsedMs, StatementCountingInspector.current());
+                }
+            }
+        }
+    }
+
+    private static String target(HttpServletRequest request) {
+        return request.getQueryString() == null ? request.getRequestURI() : request.getRequestURI() + "?" + request.getQueryString();
+    }
+}
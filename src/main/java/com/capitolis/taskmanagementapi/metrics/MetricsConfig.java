@@ -0,0 +1,31 @@
+package com.capitolis.taskmanagementapi.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Application-specific metrics. The rest comes from Spring Boot Actuator once its dependencies are on the classpath:
+ * - http.server.requests                timer per endpoint (method + URI template + status)
+ * - spring.data.repository.invocations  timer per TaskRepository method
+ * - hibernate.*                         statements, entity loads, flushes... (needs hibernate.generate_statistics)
+ * - hikaricp.*                          pool size, active / pending connections, acquire time
+ * Scrape everything from GET /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestStatementMetricsInterceptor(meterRegistry)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,46 @@
+package com.capitolis.taskmanagementapi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of SQL statements per API request as the "tasks.http.statements" histogram,
+ * tagged with the HTTP method and the URI template (/api/tasks/{id}, not /api/tasks/42, to keep the tag count bounded).
+ * Async requests (export, change feed) are skipped - their database work runs on another thread.
+ */
+public class RequestStatementMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestStatementMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountingInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || request.isAsyncStarted()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // The count is left in place (reset by the next preHandle) - the slow request log reads it after us
+        DistributionSummary.builder("tasks.http.statements")
+                .description("SQL statements prepared while handling one request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(StatementCountingInspector.current());
+    }
+}
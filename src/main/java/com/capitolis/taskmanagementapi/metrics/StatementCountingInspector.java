@@ -0,0 +1,33 @@
+package com.capitolis.taskmanagementapi.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so each HTTP request can report how many
+ * statements it cost (see RequestStatementMetricsInterceptor). An N+1 problem shows up as a jump in that number.
+
+ * Registered by class name with spring.jpa.properties.hibernate.session_factory.statement_inspector, so Hibernate
+ * creates it - the counter is static and per thread (one request = one thread, platform or virtual).
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> STATEMENTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get()[0]++;
+        return sql; // Only counting - the SQL is sent unchanged
+    }
+
+    public static void reset() {
+        STATEMENTS.get()[0] = 0;
+    }
+
+    public static int current() {
+        return STATEMENTS.get()[0];
+    }
+
+    public static void clear() {
+        STATEMENTS.remove();
+    }
+}
@@ -0,0 +1,130 @@
+package com.capitolis.taskmanagementapi.reactive;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.LikePatterns;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only access to the tasks table over R2DBC, for the reactive read path.
+
+ * It reads the same "tasks" table that Hibernate creates and TaskRepository writes (same in-memory H2 database,
+ * reached through its R2DBC driver), so there is no second schema to keep in sync.
+ * The connection pool is created here instead of being a bean: a ConnectionFactory bean would make Spring Boot
+ * back off from configuring the JDBC DataSource that JPA uses.
+
+ * Note: H2 runs in-process, so its R2DBC driver executes each query on the subscribing thread.
+ * With a network driver (e.g. r2dbc-postgresql) the same code never blocks.
+ */
+@Component
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveTaskRepository {
+
+    // Rows per query when streaming - the next chunk is only queried once the client has consumed the previous one
+    static final int STREAM_CHUNK_SIZE = 500;
+
+    private static final String COLUMNS = "SELECT id, title, description, status, due_date, created_at, updated_at FROM tasks";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveTaskRepository(@Value("${app.reactive.url:r2dbc:h2:mem:///taskdb}") String url,
+                                  @Value("${spring.datasource.username:sa}") String username,
+                                  @Value("${spring.datasource.password:}") String password,
+                                  @Value("${app.reactive.pool-size:10}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(2, poolSize))
+                .maxSize(poolSize)
+                .maxAcquireTime(Duration.ofSeconds(3))
+                .build());
+        this.databaseClient = DatabaseClient.create(pool);
+    }
+
+    public Mono<Task> findById(long id) {
+        return databaseClient.sql(COLUMNS + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    // Keyset page like TaskRepository's: rows with id > afterId, optionally filtered by status and/or title keyword (null = no filter)
+    public Flux<Task> findPage(TaskStatus status, String keyword, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(COLUMNS).append(" WHERE id > :afterId");
+        if (status != null) {
+            // H2's R2DBC driver binds strings as CLOB, which H2 can't compare to the ENUM column Hibernate created
+            sql.append(" AND status = CAST(:status AS VARCHAR(32))");
+        }
+        if (keyword != null) {
+            sql.append(" AND LOWER(title) LIKE :pattern ESCAPE '\\'");
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .bind("afterId", afterId)
+                .bind("limit", limit);
+        if (status != null) {
+            spec = spec.bind("status", status.name());
+        }
+        if (keyword != null) {
+            spec = spec.bind("pattern", LikePatterns.containingIgnoreCase(keyword));
+        }
+        return spec.map(ReactiveTaskRepository::toTask).all();
+    }
+
+    /**
+     * Every matching task, ordered by id, as one Flux that follows the subscriber's demand.
+     * Rows are read in keyset chunks of STREAM_CHUNK_SIZE and the next chunk is only queried when the subscriber
+     * asks for more, so a slow client holds at most one chunk - never the whole result set or an open cursor.
+     */
+    public Flux<Task> stream(TaskStatus status, String keyword) {
+        return streamAfter(status, keyword, 0L);
+    }
+
+    private Flux<Task> streamAfter(TaskStatus status, String keyword, long afterId) {
+        return findPage(status, keyword, afterId, STREAM_CHUNK_SIZE).collectList().flatMapMany(rows -> {
+            Flux<Task> chunk = Flux.fromIterable(rows);
+            if (rows.size() < STREAM_CHUNK_SIZE) {
+                return chunk; // Last chunk
+            }
+            long lastId = rows.getLast().getId();
+            return chunk.concatWith(Flux.defer(() -> streamAfter(status, keyword, lastId)));
+        });
+    }
+
+    private static Task toTask(Readable row) {
+        Task task = new Task();
+        task.setId(row.get("id", Long.class));
+        task.setTitle(row.get("title", String.class));
+        task.setDescription(row.get("description", String.class));
+        task.setStatus(TaskStatus.valueOf(row.get("status", String.class)));
+        task.setDueDate(row.get("due_date", LocalDateTime.class));
+        task.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        task.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return task;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.dispose();
+    }
+}
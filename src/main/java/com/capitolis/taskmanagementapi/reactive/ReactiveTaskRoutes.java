@@ -0,0 +1,102 @@
+package com.capitolis.taskmanagementapi.reactive;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking versions of TaskController's read endpoints, under /api/reactive/tasks (WebFlux functional routes).
+ * The JSON shapes are the same as the blocking endpoints, so clients can switch by changing the base URL.
+
+ * GET /api/reactive/tasks                    - page of all tasks (?cursor=&size=)
+ * GET /api/reactive/tasks/{id}               - one task, 404 when missing
+ * GET /api/reactive/tasks/status/{status}    - page of tasks with a status
+ * GET /api/reactive/tasks/search?keyword=    - page of tasks whose title contains the keyword (keyword required)
+ * GET /api/reactive/tasks/stream             - every task (?status=&keyword= optional) as NDJSON, paced by the client
+ */
+public final class ReactiveTaskRoutes {
+
+    static final String BASE_PATH = "/api/reactive/tasks";
+
+    private ReactiveTaskRoutes() {
+    }
+
+    public static RouterFunction<ServerResponse> routes(ReactiveTaskRepository repository, int defaultPageSize, int maxPageSize) {
+        return RouterFunctions.route()
+                .GET(BASE_PATH + "/stream", deferred(request -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(repository.stream(optionalStatus(request), optionalKeyword(request)), Task.class)))
+                .GET(BASE_PATH + "/status/{status}", deferred(request -> page(repository, request,
+                        parseStatus(request.pathVariable("status")), null, defaultPageSize, maxPageSize)))
+                .GET(BASE_PATH + "/search", deferred(request -> page(repository, request,
+                        null, requiredKeyword(request), defaultPageSize, maxPageSize)))
+                .GET(BASE_PATH + "/{id}", deferred(request -> repository.findById(parseNumber(request.pathVariable("id"), "id"))
+                        .flatMap(task -> ServerResponse.ok().bodyValue(task))
+                        .switchIfEmpty(ServerResponse.notFound().build())))
+                .GET(BASE_PATH, deferred(request -> page(repository, request, null, null, defaultPageSize, maxPageSize)))
+                // A bad cursor, id or status is the client's fault -> 400, same as the blocking endpoints
+                .onError(BadRequestException.class, (e, request) ->
+                        ServerResponse.badRequest().bodyValue(Map.of("error", String.valueOf(e.getMessage()))))
+                .build();
+    }
+
+    // Fetch size + 1 rows: the extra row only tells us whether there is a next page (see CursorPage.of)
+    private static Mono<ServerResponse> page(ReactiveTaskRepository repository, ServerRequest request,
+                                             TaskStatus status, String keyword, int defaultPageSize, int maxPageSize) {
+        long afterId = CursorPage.decodeCursor(request.queryParam("cursor").orElse(null));
+        int size = request.queryParam("size")
+                .map(value -> (int) Math.max(1, Math.min(parseNumber(value, "size"), maxPageSize)))
+                .orElse(defaultPageSize);
+        return repository.findPage(status, keyword, afterId, size + 1)
+                .collectList()
+                .map(rows -> CursorPage.of(rows, size, Task::getId))
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    // Parsing errors (bad id, status or cursor) are thrown while building the response - deferring turns them
+    // into an error signal, which onError maps to 400
+    private static HandlerFunction<ServerResponse> deferred(HandlerFunction<ServerResponse> handler) {
+        return request -> Mono.defer(() -> handler.handle(request));
+    }
+
+    // Case-sensitive, like Spring MVC's enum binding on the blocking endpoints
+    private static TaskStatus parseStatus(String status) {
+        try {
+            return TaskStatus.valueOf(status.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown status: " + status);
+        }
+    }
+
+    private static long parseNumber(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid " + name + ": " + value);
+        }
+    }
+
+    // Like the blocking @RequestParam String keyword: missing -> 400, empty -> every task
+    private static String requiredKeyword(ServerRequest request) {
+        return request.queryParam("keyword")
+                .orElseThrow(() -> new BadRequestException("Required parameter 'keyword' is not present"));
+    }
+
+    private static TaskStatus optionalStatus(ServerRequest request) {
+        return request.queryParam("status").map(ReactiveTaskRoutes::parseStatus).orElse(null);
+    }
+
+    private static String optionalKeyword(ServerRequest request) {
+        return request.queryParam("keyword").filter(keyword -> !keyword.isBlank()).orElse(null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.capitolis.taskmanagementapi.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Runs the reactive read path on its own Reactor Netty server (app.reactive.port), next to Tomcat.
+
+ * The rest of the application is Spring MVC on Tomcat, and one application context can only be a servlet or a reactive
+ * web application. Rather than moving every endpoint to WebFlux, the reactive routes get their own event-loop server:
+ * writes are paced by the socket (a slow client only delays its own stream) and no thread waits per connection.
+
+ * Enabled with app.reactive.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveTaskServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveTaskServer.class);
+
+    private final HttpHandler httpHandler;
+    private final String host;
+    private final int port;
+    private volatile DisposableServer server;
+
+    @Autowired
+    public ReactiveTaskServer(ReactiveTaskRepository repository,
+                              @Value("${app.reactive.host:0.0.0.0}") String host,
+                              @Value("${app.reactive.port:8081}") int port,
+                              @Value("${app.pagination.default-page-size:50}") int defaultPageSize,
+                              @Value("${app.pagination.max-page-size:500}") int maxPageSize) {
+        this.httpHandler = RouterFunctions.toHttpHandler(ReactiveTaskRoutes.routes(repository, defaultPageSize, maxPageSize));
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read path listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // Actual port - useful with app.reactive.port=0 (random port, e.g. in benchmarks)
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -0,0 +1,23 @@
+package com.capitolis.taskmanagementapi.repository;
+
+import java.util.Locale;
+
+/**
+ * LIKE patterns for the title keyword filters, shared by the JPA, reactive and sharded stores so they all match the same rows.
+ * The keyword is matched literally, like Spring Data's Containing: % and _ in it aren't wildcards.
+ * Every query using a pattern from here must declare ESCAPE '\' and compare against LOWER(title).
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    // "%<keyword>%" lowercased, with \, % and _ escaped
+    public static String containingIgnoreCase(String keyword) {
+        return "%" + escape(keyword.toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    static String escape(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
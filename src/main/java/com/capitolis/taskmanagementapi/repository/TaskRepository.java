@@ -3,11 +3,20 @@ package com.capitolis.taskmanagementapi.repository;
 // The Repository handles all database operations (save, find, update, delete)
 // TaskRepository is an interface that extends JpaRepository, providing CRUD operations for the Task entity. It allows us to perform database operations on Task entities without needing to write boilerplate code for common operations like saving, finding, updating, and deleting tasks.
 
+import com.capitolis.taskmanagementapi.dto.TaskStatusCount;
 import com.capitolis.taskmanagementapi.model.Task;
 import com.capitolis.taskmanagementapi.model.TaskStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 // CRUD means Create, Read, Update, Delete - these are the basic operations that can be performed on data in a database. By extending JpaRepository, TaskRepository inherits methods for performing these operations on Task entities, such as save(), findById(), findAll(), deleteById(), etc.
 
@@ -30,18 +39,79 @@ import java.util.List;
 
  * findAllByOrderByDueDateAsc()
  * // Spring generates: SELECT * FROM tasks ORDER BY due_date ASC
+
+ * findByIdGreaterThanOrderByIdAsc(100L, Limit.of(51))
+ * // Spring generates: SELECT * FROM tasks WHERE id > 100 ORDER BY id ASC FETCH FIRST 51 ROWS ONLY
  */
 
-public interface TaskRepository extends JpaRepository<Task, Long> { // inheriting from JpaRepository, which provides basic CRUD operations for Task entities with Long as the type of the primary key (id)
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom { // inheriting from JpaRepository, which provides basic CRUD operations for Task entities with Long as the type of the primary key (id)
 
     // Spring automatically implements these methods based on method names!
+    // Derived finders don't inherit SimpleJpaRepository's read-only transaction (only the inherited CRUD methods do).
+    // The ones behind @ReadFromReplica service reads declare it, otherwise read routing would always pick the primary.
 
     // Find all tasks by status
+    @Transactional(readOnly = true)
     List<Task> findByStatus(TaskStatus status);
 
     // Find tasks by title containing a keyword (case-insensitive)
+    @Transactional(readOnly = true)
     List<Task> findByTitleContainingIgnoreCase(String keyword);
 
+    // Keyset (cursor) pagination - "give me the next N rows after the last id I saw".
+    // The WHERE id > ? seek uses the primary key index, so page 1000 costs the same as page 1 (no OFFSET scans).
+    @Transactional(readOnly = true)
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Transactional(readOnly = true)
+    List<Task> findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus status, Long afterId, Limit limit);
+
+    @Transactional(readOnly = true)
+    List<Task> findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String keyword, Long afterId, Limit limit);
+
+    // The same three queries with a projection type (e.g. TaskSummary): Spring Data selects only the projection's columns
+    // findByIdGreaterThanOrderByIdAsc(100L, Limit.of(51), TaskSummary.class)
+    // // SELECT id, title, status FROM tasks WHERE id > 100 ORDER BY id ASC FETCH FIRST 51 ROWS ONLY
+    @Transactional(readOnly = true)
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit, Class<T> type);
+
+    @Transactional(readOnly = true)
+    <T> List<T> findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus status, Long afterId, Limit limit, Class<T> type);
+
+    @Transactional(readOnly = true)
+    <T> List<T> findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String keyword, Long afterId, Limit limit, Class<T> type);
+
+    // Due-date scheduler: every open task with a due date, and a reload of specific rows after a bulk status change
+    // findByStatusNotAndDueDateIsNotNull(TaskStatus.DONE, DueTask.class)
+    // // SELECT id, title, status, due_date FROM tasks WHERE status <> 'DONE' AND due_date IS NOT NULL
+    <T> List<T> findByStatusNotAndDueDateIsNotNull(TaskStatus status, Class<T> type);
+
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    // Single-row updates and deletes - see TaskRepositoryCustom (one statement that also returns the replaced row)
+
+    // Set-based status transitions - one UPDATE statement per source status no matter how many rows match.
+    // The affected row count is then exactly the number of tasks that moved from source to target.
+    // Bulk JPQL updates skip @PreUpdate, so updatedAt is set explicitly.
+    // clearAutomatically drops stale entities from the persistence context after the update.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :target, t.updatedAt = :now " +
+            "WHERE t.id IN :ids AND t.status = :source")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("source") TaskStatus source,
+                          @Param("target") TaskStatus target,
+                          @Param("now") LocalDateTime now);
+
+    // Filter-based status transition - see TaskRepositoryCustom.updateStatusByFilter (built dynamically so indexes can be used)
+
+    // Only the last-modified time of one task - enough to answer a conditional GET without loading the entity
+    @Query("SELECT t.updatedAt FROM Task t WHERE t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // Number of tasks per status in one query - used to seed the in-memory status counters
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t GROUP BY t.status")
+    List<TaskStatusCount> countByStatus();
+
     // Find all tasks ordered by due date, to be called in the service layer
 //    List<Task> findAllByOrderByDueDateAsc();
 
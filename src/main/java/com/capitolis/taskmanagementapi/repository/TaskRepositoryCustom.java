@@ -0,0 +1,39 @@
+package com.capitolis.taskmanagementapi.repository;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Queries that can't be expressed as a derived method or a fixed @Query.
+ * Spring Data finds the implementation by name (TaskRepositoryCustomImpl) and mixes it into TaskRepository.
+ */
+public interface TaskRepositoryCustom {
+
+    // Set-based status transition for every task matching the non-null filters, returns the affected row count.
+    // TaskService passes one source status per call, so the row count tells exactly how many tasks left that status.
+    int updateStatusByFilter(TaskStatus status, LocalDateTime dueBefore, String keyword, TaskStatus target, LocalDateTime now);
+
+    // Stream tasks for the NDJSON export, optionally filtered by status and/or title keyword (null = no filter).
+    // Rows are pulled from an open JDBC cursor in chunks of fetchSize instead of materializing a List,
+    // and the read-only hint tells Hibernate not to keep dirty-checking snapshots of every row.
+    // The Stream must be consumed inside a transaction and closed afterwards (try-with-resources).
+    Stream<Task> streamForExport(TaskStatus status, String keyword);
+
+    // Single-row writes as one statement that also returns the row as it was before the write.
+    // Empty when the id doesn't exist (the service's 404) - there is no SELECT before the write.
+    // A null status keeps the stored one (status is NOT NULL), like ShardedTaskRepository.update
+    Optional<Task> updateFields(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate, LocalDateTime now);
+
+    Optional<Task> updateStatusById(Long id, TaskStatus status, LocalDateTime now);
+
+    // Deletes return the statuses of the rows they removed (nothing for ids that didn't exist)
+    Optional<TaskStatus> deleteTaskById(Long id);
+
+    List<TaskStatus> deleteTasksByIds(Collection<Long> ids);
+}
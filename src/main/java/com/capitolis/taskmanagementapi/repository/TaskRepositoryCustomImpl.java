@@ -0,0 +1,144 @@
+package com.capitolis.taskmanagementapi.repository;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Builds the bulk UPDATE and the export query with only the filters that were actually given.
+ * A fixed query written as "(:status IS NULL OR t.status = :status)" hides the predicate from the database planner,
+ * so it can never use the (status, due_date) index - here "status = ? AND due_date < ?" reaches the database as-is.
+
+ * The single-row writes read what they replace in the same statement, with an H2 data change delta table:
+ * SELECT ... FROM OLD TABLE (UPDATE ...) runs the UPDATE and returns the rows as they were before it.
+ * The status counters need the replaced status, and this gets it without a SELECT ... FOR UPDATE round trip.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateStatusByFilter(TaskStatus status, LocalDateTime dueBefore, String keyword, TaskStatus target, LocalDateTime now) {
+        StringBuilder jpql = new StringBuilder("UPDATE Task t SET t.status = :target, t.updatedAt = :now WHERE t.status <> :target");
+        if (status != null) {
+            jpql.append(" AND t.status = :status");
+        }
+        if (dueBefore != null) {
+            jpql.append(" AND t.dueDate < :dueBefore");
+        }
+        if (keyword != null) {
+            jpql.append(" AND LOWER(t.title) LIKE :pattern ESCAPE '\\'");
+        }
+
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("target", target)
+                .setParameter("now", now);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (dueBefore != null) {
+            query.setParameter("dueBefore", dueBefore);
+        }
+        if (keyword != null) {
+            query.setParameter("pattern", LikePatterns.containingIgnoreCase(keyword));
+        }
+
+        // Same behaviour as @Modifying(flushAutomatically = true, clearAutomatically = true)
+        entityManager.flush();
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public Stream<Task> streamForExport(TaskStatus status, String keyword) {
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("t.status = :status");
+        }
+        if (keyword != null) {
+            conditions.add("LOWER(t.title) LIKE :pattern ESCAPE '\\'");
+        }
+        String jpql = "SELECT t FROM Task t" + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions)) + " ORDER BY t.id";
+
+        TypedQuery<Task> query = entityManager.createQuery(jpql, Task.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (keyword != null) {
+            query.setParameter("pattern", LikePatterns.containingIgnoreCase(keyword));
+        }
+        return query.getResultStream();
+    }
+
+    @Override
+    public Optional<Task> updateFields(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery("SELECT " + COLUMNS + " FROM OLD TABLE (UPDATE tasks " +
+                        "SET title = :title, description = :description, status = COALESCE(:status, status), due_date = :dueDate, updated_at = :now " +
+                        "WHERE id = :id)", Task.class)
+                .setParameter("id", id)
+                .setParameter("title", title)
+                .setParameter("description", description)
+                .setParameter("status", status == null ? null : status.name())
+                .setParameter("dueDate", dueDate)
+                .setParameter("now", now);
+        return oldRow(query);
+    }
+
+    @Override
+    public Optional<Task> updateStatusById(Long id, TaskStatus status, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery("SELECT " + COLUMNS + " FROM OLD TABLE (UPDATE tasks " +
+                        "SET status = :status, updated_at = :now WHERE id = :id)", Task.class)
+                .setParameter("id", id)
+                .setParameter("status", status.name())
+                .setParameter("now", now);
+        return oldRow(query);
+    }
+
+    @Override
+    public Optional<TaskStatus> deleteTaskById(Long id) {
+        Query query = entityManager.createNativeQuery("SELECT status FROM OLD TABLE (DELETE FROM tasks WHERE id = :id)")
+                .setParameter("id", id);
+        return deletedStatuses(query).stream().findFirst();
+    }
+
+    @Override
+    public List<TaskStatus> deleteTasksByIds(Collection<Long> ids) {
+        Query query = entityManager.createNativeQuery("SELECT status FROM OLD TABLE (DELETE FROM tasks WHERE id IN (:ids))")
+                .setParameter("ids", ids);
+        return deletedStatuses(query);
+    }
+
+    // The entity built from the old row must not stay managed: it would be dirty-checked (and written back) at flush.
+    // Clearing before the write also keeps an already loaded instance from standing in for the old row.
+    private Optional<Task> oldRow(Query query) {
+        entityManager.flush();
+        entityManager.clear();
+        List<?> rows = query.getResultList();
+        entityManager.clear();
+        return rows.stream().map(Task.class::cast).findFirst();
+    }
+
+    private List<TaskStatus> deletedStatuses(Query query) {
+        entityManager.flush();
+        List<?> rows = query.getResultList();
+        entityManager.clear();
+        return rows.stream().map(status -> TaskStatus.valueOf(status.toString())).toList();
+    }
+}
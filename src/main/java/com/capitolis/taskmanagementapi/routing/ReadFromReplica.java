@@ -0,0 +1,21 @@
+package com.capitolis.taskmanagementapi.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose queries may be served by a read replica (when app.routing.enabled=true).
+ * Without routing the annotation does nothing.
+
+ * Only put it on reads that can tolerate replication lag (bounded by app.routing.max-lag-ms).
+ * A response that carries an ETag must not tag replica data with the primary's version - a client would keep its
+ * stale copy as a 304. Strong tags come from the row itself (updatedAt); list tags use TaskTableVersion.replicaReadWeakETag().
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromReplica {
+}
@@ -0,0 +1,148 @@
+package com.capitolis.taskmanagementapi.routing;
+
+import com.capitolis.taskmanagementapi.cache.TaskCacheConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Read/write routing - writes go to the primary, @ReadFromReplica reads to a replica (off by default).
+
+ * The primary is the usual spring.datasource.* database. Every URL in app.routing.replica-urls is a replica
+ * with the same pool settings. Locally the replicas are extra in-memory H2 databases kept in sync by
+ * ReplicationStandIn - the "replica" profile (application-replica.properties) turns this on.
+
+ * The pools are held by RoutingPools rather than registered as DataSource beans, so JPA and the slow-query
+ * wrapper only ever see the one @Primary routing DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    RoutingPools routingPools(Environment environment, MeterRegistry meterRegistry,
+                              @Value("${app.routing.replica-urls}") List<String> replicaUrls) {
+        HikariDataSource primary = pool(environment, meterRegistry, "task-primary", null);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(pool(environment, meterRegistry, "task-replica-" + i, replicaUrls.get(i)));
+        }
+        return new RoutingPools(primary, replicas);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    ReplicationStandIn replicationStandIn(RoutingPools pools, CacheManager cacheManager, MeterRegistry meterRegistry,
+                                          @Value("${app.routing.replication-delay-ms}") long delayMs) {
+        // getTaskById is cached - once a replica has caught up, evict what a lagging replica read may have cached
+        Consumer<List<Long>> evictCaughtUp = ids -> {
+            Cache cache = cacheManager.getCache(TaskCacheConfig.TASKS_CACHE);
+            if (cache == null) {
+                return;
+            }
+            if (ids == null) {
+                cache.clear();
+            } else {
+                ids.forEach(cache::evict);
+            }
+        };
+        ReplicationStandIn replication = new ReplicationStandIn(pools.primary(), pools.replicas(), delayMs, evictCaughtUp);
+        for (int i = 0; i < replication.replicaCount(); i++) {
+            int replica = i;
+            Gauge.builder("tasks.replica.lag", replication, r -> r.lagMillis(replica))
+                    .description("Milliseconds the replica is behind the primary (Long.MAX_VALUE until it's initialized)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", String.valueOf(replica))
+                    .register(meterRegistry);
+        }
+        return replication;
+    }
+
+    // Lazy proxy: the connection is only fetched at the first statement, after the transaction is marked read-only
+    @Bean
+    @Primary
+    DataSource dataSource(RoutingPools pools, ReplicationStandIn replication,
+                          @Value("${app.routing.max-lag-ms}") long maxLagMs) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replication, maxLagMs);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, pools.primary());
+        for (int i = 0; i < pools.replicas().size(); i++) {
+            targets.put(i, pools.replicas().get(i));
+        }
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(pools.primary());
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(ReplicationStandIn replication, @Value("${app.routing.max-lag-ms}") long maxLagMs) {
+        return new ReadYourWritesFilter(replication, maxLagMs);
+    }
+
+    // static + infrastructure role: advisors are created before regular beans so every proxy can pick them up
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor readFromReplicaAdvisor() {
+        MethodInterceptor interceptor = invocation -> {
+            RoutingContext.enterReplicaRead();
+            try {
+                return invocation.proceed();
+            } finally {
+                RoutingContext.exitReplicaRead();
+            }
+        };
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, ReadFromReplica.class, true), interceptor);
+    }
+
+    // Same settings as the regular pool (spring.datasource.hikari.*), optionally pointed at another URL.
+    // Not a bean, so the hikaricp_* meters are registered here, tagged with the pool name.
+    private static HikariDataSource pool(Environment environment, MeterRegistry meterRegistry, String name, String jdbcUrl) {
+        Binder binder = Binder.get(environment);
+        HikariConfig config = binder.bind("spring.datasource.hikari", Bindable.of(HikariConfig.class))
+                .orElseGet(HikariConfig::new);
+        binder.bind("spring.datasource.username", String.class).ifBound(config::setUsername);
+        binder.bind("spring.datasource.password", String.class).ifBound(config::setPassword);
+        binder.bind("spring.datasource.driver-class-name", String.class).ifBound(config::setDriverClassName);
+        binder.bind("spring.datasource.url", String.class).ifBound(config::setJdbcUrl);
+        if (jdbcUrl != null) {
+            config.setJdbcUrl(jdbcUrl);
+        }
+        config.setPoolName(name);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+
+    record RoutingPools(HikariDataSource primary, List<DataSource> replicas) {
+
+        void close() {
+            primary.close();
+            replicas.forEach(replica -> ((HikariDataSource) replica).close());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.capitolis.taskmanagementapi.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends each connection request to the primary or to a replica.
+
+ * A replica is used only when all of these hold:
+ * - the code runs inside a @ReadFromReplica method,
+ * - the current transaction is read-only (inherited finders run in one, TaskRepository declares it on its derived ones),
+ * - the current request hasn't written yet (read-your-writes),
+ * - the replica has applied the client's last write from an earlier request (read-after version, see ReadYourWritesFilter),
+ * - the replica is at most app.routing.max-lag-ms behind the primary.
+ * Replicas are tried round-robin. When none is fresh enough the read falls back to the primary.
+
+ * Must be wrapped in a LazyConnectionDataSourceProxy. The transaction manager asks for a connection before it
+ * marks the transaction read-only, so without the proxy every transaction would be routed as a write.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicationStandIn replication;
+    private final long maxLagMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder lagFallbacks = new LongAdder();
+
+    public ReadWriteRoutingDataSource(ReplicationStandIn replication, long maxLagMs) {
+        this.replication = replication;
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) {
+            RoutingContext.pinToPrimary(); // The rest of this request reads what it just wrote
+            return PRIMARY;
+        }
+        if (!RoutingContext.isReplicaRead() || RoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        long readAfter = RoutingContext.readAfterVersion();
+        int count = replication.replicaCount();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int candidate = (start + i) % count;
+            if (replication.isWithinLag(candidate, maxLagMs) && replication.hasApplied(candidate, readAfter)) {
+                return candidate;
+            }
+        }
+        lagFallbacks.increment();
+        return PRIMARY;
+    }
+
+    // Replica-eligible reads that went to the primary because every replica was too far behind (or lacked the client's write)
+    public long lagFallbacks() {
+        return lagFallbacks.sum();
+    }
+}
@@ -0,0 +1,86 @@
+package com.capitolis.taskmanagementapi.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes for one client across requests.
+
+ * - Within a request: after it writes, its later reads go to the primary.
+ * - Across requests: a request that writes gets a cookie with the replication version of its write
+ *   ("epoch.version", see ReplicationStandIn). While the client sends it back, only a replica that has applied
+ *   that version serves it, so POST then GET never reads the replica from before the POST.
+ * The cookie lives for max-lag-ms (rounded up to whole seconds): after that, a replica that still lacks the write
+ * is more than max-lag-ms behind and isn't used anyway. Writes made off the request thread (async endpoints,
+ * the ingest queue) aren't tracked. Registered by ReadWriteRoutingConfig (only with app.routing.enabled=true).
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "task-read-after";
+
+    private final ReplicationStandIn replication;
+    private final Duration cookieMaxAge;
+
+    public ReadYourWritesFilter(ReplicationStandIn replication, long maxLagMs) {
+        this.replication = replication;
+        this.cookieMaxAge = Duration.ofSeconds(Math.max(1, (maxLagMs + 999) / 1000));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long[] lastSent = {readAfterVersion(request)};
+        RoutingContext.beginRequest(lastSent[0], version -> {
+            // The write commits before the controller returns, so the response is normally not committed yet
+            if (version > lastSent[0] && !response.isCommitted()) {
+                lastSent[0] = version;
+                response.addHeader(HttpHeaders.SET_COOKIE, cookie(version).toString());
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RoutingContext.endRequest(); // Pooled Tomcat threads must not carry the pin into the next request
+        }
+    }
+
+    private ResponseCookie cookie(long version) {
+        return ResponseCookie.from(COOKIE_NAME, replication.epoch() + "." + version)
+                .path("/")
+                .maxAge(cookieMaxAge)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+    }
+
+    // 0 (no constraint) for a missing or malformed cookie, or one from before a restart
+    private long readAfterVersion(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (!COOKIE_NAME.equals(cookie.getName())) {
+                continue;
+            }
+            String[] parts = cookie.getValue().split("\\.");
+            try {
+                if (parts.length == 2 && Long.parseLong(parts[0]) == replication.epoch()) {
+                    return Math.max(0, Long.parseLong(parts[1]));
+                }
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,280 @@
+package com.capitolis.taskmanagementapi.routing;
+
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for database replication, so read routing can be tried locally with a second in-memory H2.
+
+ * - At startup each replica gets the primary's schema (H2 SCRIPT NODATA) and a copy of every row.
+ * - Each committed TaskChangedEvent is applied to every replica after app.routing.replication-delay-ms
+ *   (simulated lag) on a single thread per replica, so a replica applies changes in commit-event order.
+ * - Applying re-reads the affected rows from the primary and MERGEs them (rows that are gone are deleted), so a
+ *   replica converges on the primary even when two events arrive out of order. Filter-based status changes don't
+ *   carry ids - they trigger a full copy.
+
+ * Lag: every event gets a version with its commit time. A replica's lag is the age of the oldest version it
+ * hasn't applied yet (0 when caught up). A replica counts as unavailable until its first copy has finished.
+ * A client that has just written sends its write's version back (ReadYourWritesFilter), and only a replica that has
+ * applied it serves that client.
+
+ * onApplied gets the task ids a replica has just caught up on (null = all of them). The task cache uses it to drop
+ * entries a replica read may have filled with the old row while the replica was behind.
+ */
+public class ReplicationStandIn {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicationStandIn.class);
+
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at";
+    private static final String MERGE_SQL = "MERGE INTO tasks (" + COLUMNS + ") KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int COPY_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate primary;
+    private final NamedParameterJdbcTemplate primaryNamed;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long delayMs;
+    private final Consumer<List<Long>> onApplied;
+
+    // Versions restart at 0 with the process - the epoch tells a client's read-after version from an earlier run
+    private final long epoch = System.currentTimeMillis();
+    private final Object versionLock = new Object(); // Versions are handed out and scheduled in the same order
+    private long primaryVersion;
+    private final ConcurrentSkipListMap<Long, Long> commitTimes = new ConcurrentSkipListMap<>(); // version -> nanoTime
+
+    public ReplicationStandIn(DataSource primary, List<DataSource> replicaDataSources, long delayMs,
+                              Consumer<List<Long>> onApplied) {
+        this.primary = new JdbcTemplate(primary);
+        this.primaryNamed = new NamedParameterJdbcTemplate(this.primary);
+        this.delayMs = delayMs;
+        this.onApplied = onApplied;
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            replicas.add(new Replica(i, replicaDataSources.get(i)));
+        }
+    }
+
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    public boolean isWithinLag(int replica, long maxLagMs) {
+        Replica target = replicas.get(replica);
+        return target.ready && lagMillis(target) <= maxLagMs;
+    }
+
+    // True when the replica has applied every write up to this version (0 = no version to wait for)
+    public boolean hasApplied(int replica, long version) {
+        return replicas.get(replica).appliedVersion >= version;
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    // Every write up to this version is on every replica that serves reads, so no read - replica or primary - sees less.
+    // List ETags are built from it (TaskTableVersion). While no replica is ready every read goes to the primary.
+    public long replicatedVersion() {
+        long version;
+        synchronized (versionLock) {
+            version = primaryVersion;
+        }
+        for (Replica replica : replicas) {
+            if (replica.ready) {
+                version = Math.min(version, replica.appliedVersion);
+            }
+        }
+        return version;
+    }
+
+    public long lagMillis(int replica) {
+        Replica target = replicas.get(replica);
+        return target.ready ? lagMillis(target) : Long.MAX_VALUE;
+    }
+
+    // Hibernate has created the schema by now - copy it and the rows to every replica
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        synchronized (versionLock) {
+            long version = primaryVersion;
+            for (Replica replica : replicas) {
+                replica.executor.execute(() -> replica.initialize(version));
+            }
+        }
+    }
+
+    // After commit, like every other listener - a rolled-back write is never replicated.
+    // Runs on the thread that committed, so the version is handed to that request's read-your-writes cookie.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        long version;
+        synchronized (versionLock) {
+            version = ++primaryVersion;
+            commitTimes.put(version, System.nanoTime());
+            for (Replica replica : replicas) {
+                replica.executor.schedule(() -> replica.apply(event, version), delayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        RoutingContext.recordWrite(version);
+    }
+
+    public void shutdown() {
+        replicas.forEach(replica -> replica.executor.shutdownNow());
+    }
+
+    // A pending write counts as at least 1 ms behind - 0 means every commit has been applied, not "committed < 1 ms ago"
+    private long lagMillis(Replica replica) {
+        Map.Entry<Long, Long> oldestPending = commitTimes.higherEntry(replica.appliedVersion);
+        return oldestPending == null ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldestPending.getValue()));
+    }
+
+    // Versions every replica has applied are no longer needed for lag
+    private void pruneCommitTimes() {
+        long applied = Long.MAX_VALUE;
+        for (Replica replica : replicas) {
+            applied = Math.min(applied, replica.appliedVersion);
+        }
+        commitTimes.headMap(applied, true).clear();
+    }
+
+    private final class Replica {
+        private final int index;
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate transaction;
+        private final ScheduledExecutorService executor;
+        private volatile long appliedVersion;
+        private volatile boolean ready;
+
+        Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "task-replication-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        void initialize(long version) {
+            try {
+                jdbc.execute("DROP ALL OBJECTS"); // A stand-in replica is rebuilt from scratch
+                for (String statement : primary.queryForList("SCRIPT NODATA", String.class)) {
+                    if ((statement.startsWith("CREATE") || statement.startsWith("ALTER")) && !statement.startsWith("CREATE USER")) {
+                        jdbc.execute(statement);
+                    }
+                }
+                copyAll();
+                markApplied(version);
+                ready = true;
+                log.info("Replica {} initialized", index);
+            } catch (RuntimeException e) {
+                log.error("Could not initialize replica {} - reads stay on the primary", index, e);
+            }
+        }
+
+        void apply(TaskChangedEvent event, long version) {
+            if (!ready) {
+                return; // Not initialized - the primary serves every read anyway
+            }
+            try {
+                if (event.affectsUnknownRows()) {
+                    copyAll();
+                } else {
+                    syncRows(event.ids());
+                }
+                markApplied(version);
+                onApplied.accept(event.ids());
+            } catch (RuntimeException e) {
+                // The version stays unapplied, so this replica's lag keeps growing and routing skips it
+                log.warn("Replica {} could not apply version {}, copying everything again", index, version, e);
+                executor.execute(() -> resync(version));
+            }
+        }
+
+        private void resync(long version) {
+            try {
+                copyAll();
+                markApplied(version);
+                onApplied.accept(null);
+            } catch (RuntimeException e) {
+                log.error("Replica {} resync failed", index, e);
+            }
+        }
+
+        // Copy the current primary rows for these ids - found ones are merged, missing ones were deleted
+        private void syncRows(List<Long> ids) {
+            for (int from = 0; from < ids.size(); from += COPY_BATCH_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + COPY_BATCH_SIZE, ids.size()));
+                List<Object[]> rows = primaryNamed.query("SELECT " + COLUMNS + " FROM tasks WHERE id IN (:ids)",
+                        new MapSqlParameterSource("ids", chunk), (rs, rowNum) -> row(rs));
+                Set<Long> missing = new HashSet<>(chunk);
+                rows.forEach(row -> missing.remove((Long) row[0]));
+                transaction.executeWithoutResult(status -> {
+                    jdbc.batchUpdate(MERGE_SQL, rows);
+                    if (!missing.isEmpty()) {
+                        jdbc.batchUpdate("DELETE FROM tasks WHERE id = ?", missing.stream().map(id -> new Object[]{id}).toList());
+                    }
+                });
+            }
+        }
+
+        // Replace the replica's rows with a copy of the primary's, in one replica transaction
+        private void copyAll() {
+            transaction.executeWithoutResult(status -> {
+                jdbc.update("DELETE FROM tasks");
+                List<Object[]> batch = new ArrayList<>(COPY_BATCH_SIZE);
+                primary.query("SELECT " + COLUMNS + " FROM tasks", rs -> {
+                    batch.add(row(rs));
+                    if (batch.size() == COPY_BATCH_SIZE) {
+                        jdbc.batchUpdate(MERGE_SQL, batch);
+                        batch.clear();
+                    }
+                });
+                if (!batch.isEmpty()) {
+                    jdbc.batchUpdate(MERGE_SQL, batch);
+                }
+            });
+        }
+
+        private void markApplied(long version) {
+            if (version > appliedVersion) {
+                appliedVersion = version;
+            }
+            pruneCommitTimes();
+        }
+    }
+
+    private static Object[] row(ResultSet rs) throws SQLException {
+        return new Object[]{
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getString("status"),
+                rs.getObject("due_date"),
+                rs.getObject("created_at"),
+                rs.getObject("updated_at")
+        };
+    }
+}
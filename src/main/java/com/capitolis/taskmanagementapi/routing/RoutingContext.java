@@ -0,0 +1,116 @@
+package com.capitolis.taskmanagementapi.routing;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread state that ReadWriteRoutingDataSource uses to pick a database.
+
+ * - replica reads: set while a @ReadFromReplica method runs (nested calls are counted)
+ * - request pin: once a request has used the primary for a write, the rest of that request reads from the primary too
+ *   (read-your-writes). Only tracked between beginRequest() and endRequest() - ReadYourWritesFilter calls them.
+ * - read-after version: the replication version of the client's last write, carried over from an earlier request.
+ *   Only a replica that has applied it may serve this request.
+ * Work a request hands to a pool thread takes the request state along with withCurrentRequest().
+ */
+public final class RoutingContext {
+
+    private static final ThreadLocal<int[]> REPLICA_READ_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    private static final ThreadLocal<RequestState> REQUEST = new ThreadLocal<>();
+
+    private RoutingContext() {
+    }
+
+    public static void enterReplicaRead() {
+        REPLICA_READ_DEPTH.get()[0]++;
+    }
+
+    public static void exitReplicaRead() {
+        REPLICA_READ_DEPTH.get()[0]--;
+    }
+
+    public static boolean isReplicaRead() {
+        return REPLICA_READ_DEPTH.get()[0] > 0;
+    }
+
+    public static void beginRequest() {
+        beginRequest(0, version -> {
+        });
+    }
+
+    // readAfterVersion: 0 when the client hasn't written recently. onWrite gets the version of each write this request commits.
+    public static void beginRequest(long readAfterVersion, LongConsumer onWrite) {
+        REQUEST.set(new RequestState(readAfterVersion, onWrite));
+    }
+
+    public static void endRequest() {
+        REQUEST.remove();
+    }
+
+    // Wraps call so it runs with this thread's request state, for work handed to a pool thread (AsyncTaskService):
+    // the worker then sees the client's read-after version and the request's pin, like the request thread would.
+    // The worker's own state is restored afterwards. Outside a request the call is returned as is.
+    public static <T> Supplier<T> withCurrentRequest(Supplier<T> call) {
+        RequestState request = REQUEST.get();
+        if (request == null) {
+            return call;
+        }
+        return () -> {
+            RequestState previous = REQUEST.get();
+            REQUEST.set(request);
+            try {
+                return call.get();
+            } finally {
+                if (previous == null) {
+                    REQUEST.remove();
+                } else {
+                    REQUEST.set(previous);
+                }
+            }
+        };
+    }
+
+    // No-op outside a request - background threads have nothing to stay consistent with
+    public static void pinToPrimary() {
+        RequestState request = REQUEST.get();
+        if (request != null) {
+            request.pinned = true;
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        RequestState request = REQUEST.get();
+        return request != null && request.pinned;
+    }
+
+    public static long readAfterVersion() {
+        RequestState request = REQUEST.get();
+        return request == null ? 0 : request.readAfterVersion;
+    }
+
+    // True when this request or a recent one from the same client wrote - its reads must not be served stale.
+    // The task cache is skipped for such requests: a lagging replica read by another client may have filled it.
+    public static boolean hasRecentWrite() {
+        RequestState request = REQUEST.get();
+        return request != null && (request.pinned || request.readAfterVersion > 0);
+    }
+
+    // Called by ReplicationStandIn with the version it gave a write committed on this thread
+    static void recordWrite(long version) {
+        RequestState request = REQUEST.get();
+        if (request != null) {
+            request.onWrite.accept(version);
+        }
+    }
+
+    private static final class RequestState {
+        private final long readAfterVersion;
+        private final LongConsumer onWrite;
+        private volatile boolean pinned; // Shared with the pool threads the request hands work to
+
+        RequestState(long readAfterVersion, LongConsumer onWrite) {
+            this.readAfterVersion = readAfterVersion;
+            this.onWrite = onWrite;
+        }
+    }
+}
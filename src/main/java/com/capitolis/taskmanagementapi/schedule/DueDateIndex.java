@@ -0,0 +1,246 @@
+package com.capitolis.taskmanagementapi.schedule;
+
+import com.capitolis.taskmanagementapi.dto.DueTask;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of open (not DONE) tasks that have a due date.
+
+ * - byDue is sorted by (dueDate, id): "overdue" is the head of the set before now and "upcoming" is the range
+ *   [now, now + within], so both are an O(log n) seek plus the rows returned - no table scan, no comparing every task.
+ * - timers is a priority queue of (fire time, kind, id): an OVERDUE timer at the due date and a DUE_SOON timer at
+ *   due date - due-soon window. fire() pops every timer that is due, so each task fires each event once.
+ *   Changing a task's due date replaces its timers; any other change (title, status) keeps them.
+
+ * One read/write lock like TaskSearchIndex: reads run in parallel, updates and fire() are exclusive.
+ */
+public class DueDateIndex {
+
+    private static final Comparator<DueTask> BY_DUE_DATE = Comparator.comparing(DueTask::dueDate).thenComparing(DueTask::id);
+    private static final Comparator<Timer> BY_FIRE_TIME = Comparator.comparing(Timer::fireAt)
+            .thenComparing(Timer::kind).thenComparingLong(Timer::id);
+
+    private final Duration dueSoonWindow;
+    private final NavigableSet<DueTask> byDue = new TreeSet<>(BY_DUE_DATE);
+    private final Map<Long, DueTask> byId = new HashMap<>();
+    private final NavigableSet<Timer> timers = new TreeSet<>(BY_FIRE_TIME);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public DueDateIndex(Duration dueSoonWindow) {
+        this.dueSoonWindow = dueSoonWindow;
+    }
+
+    // Add or replace a task. Done tasks and tasks without a due date are removed instead.
+    // Timers whose time has already passed fire on the next fire() - a task created overdue is reported once.
+    public void upsert(DueTask task) {
+        if (!isTracked(task)) {
+            remove(task.id());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            DueTask previous = byId.put(task.id(), task);
+            if (previous != null) {
+                byDue.remove(previous);
+            }
+            byDue.add(task);
+            if (previous == null || !previous.dueDate().equals(task.dueDate())) {
+                if (previous != null) {
+                    removeTimers(previous);
+                }
+                addTimers(task, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Remove a task (no-op when it isn't tracked)
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            DueTask previous = byId.remove(id);
+            if (previous != null) {
+                byDue.remove(previous);
+                removeTimers(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Replace everything at startup. Timers that would have fired before now are skipped,
+    // so a restart doesn't re-announce every task that was already overdue. At runtime use sync instead.
+    public void replaceAll(Collection<DueTask> tasks, LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            byDue.clear();
+            byId.clear();
+            timers.clear();
+            for (DueTask task : tasks) {
+                if (isTracked(task)) {
+                    byId.put(task.id(), task);
+                    byDue.add(task);
+                    addTimers(task, now);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace everything while the application runs (reload after a bulk status change by filter).
+     * Unlike replaceAll, nothing is skipped: a task whose due date didn't change keeps its pending timers, even
+     * ones that came due since the last fire(), so they still go out on the next tick. A new task, or one whose due
+     * date changed, gets timers like upsert. Timers that already fired don't come back.
+     */
+    public void sync(Collection<DueTask> tasks) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, DueTask> untouched = new HashMap<>(byId);
+            byDue.clear();
+            byId.clear();
+            for (DueTask task : tasks) {
+                if (!isTracked(task)) {
+                    continue;
+                }
+                byId.put(task.id(), task);
+                byDue.add(task);
+                DueTask previous = untouched.remove(task.id());
+                if (previous == null || !previous.dueDate().equals(task.dueDate())) {
+                    if (previous != null) {
+                        removeTimers(previous);
+                    }
+                    addTimers(task, null);
+                }
+            }
+            untouched.values().forEach(this::removeTimers); // Done, deleted or no due date any more
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Open tasks due before now, most overdue first
+    public List<DueTask> overdue(LocalDateTime now, int limit) {
+        lock.readLock().lock();
+        try {
+            return first(byDue.headSet(probe(now, Long.MIN_VALUE), false), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Open tasks due between now and until (inclusive), soonest first
+    public List<DueTask> upcoming(LocalDateTime now, LocalDateTime until, int limit) {
+        lock.readLock().lock();
+        try {
+            return first(byDue.subSet(probe(now, Long.MIN_VALUE), true, probe(until, Long.MAX_VALUE), true), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Pop every timer due at or before now. DUE_SOON is skipped for tasks that are already overdue
+     * (the OVERDUE timer covers them).
+     */
+    public Fired fire(LocalDateTime now) {
+        List<DueTask> overdue = new ArrayList<>();
+        List<DueTask> dueSoon = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            while (!timers.isEmpty() && !timers.first().fireAt().isAfter(now)) {
+                Timer timer = timers.pollFirst();
+                DueTask task = byId.get(timer.id());
+                if (task == null) {
+                    continue;
+                }
+                if (timer.kind() == TimerKind.OVERDUE) {
+                    overdue.add(task);
+                } else if (task.dueDate().isAfter(now)) {
+                    dueSoon.add(task);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Fired(overdue, dueSoon);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int pendingTimers() {
+        lock.readLock().lock();
+        try {
+            return timers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addTimers(DueTask task, LocalDateTime skipBefore) {
+        LocalDateTime dueSoonAt = task.dueDate().minus(dueSoonWindow);
+        if (skipBefore == null || dueSoonAt.isAfter(skipBefore)) {
+            timers.add(new Timer(dueSoonAt, TimerKind.DUE_SOON, task.id()));
+        }
+        if (skipBefore == null || task.dueDate().isAfter(skipBefore)) {
+            timers.add(new Timer(task.dueDate(), TimerKind.OVERDUE, task.id()));
+        }
+    }
+
+    private void removeTimers(DueTask task) {
+        timers.remove(new Timer(task.dueDate().minus(dueSoonWindow), TimerKind.DUE_SOON, task.id()));
+        timers.remove(new Timer(task.dueDate(), TimerKind.OVERDUE, task.id()));
+    }
+
+    private static boolean isTracked(DueTask task) {
+        return task.dueDate() != null && task.status() != TaskStatus.DONE;
+    }
+
+    private static DueTask probe(LocalDateTime dueDate, long id) {
+        return new DueTask(id, null, null, dueDate);
+    }
+
+    private static List<DueTask> first(NavigableSet<DueTask> range, int limit) {
+        List<DueTask> result = new ArrayList<>(Math.min(limit, 64));
+        for (DueTask task : range) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(task);
+        }
+        return result;
+    }
+
+    public record Fired(List<DueTask> overdue, List<DueTask> dueSoon) {
+    }
+
+    private enum TimerKind {
+        DUE_SOON,
+        OVERDUE
+    }
+
+    private record Timer(LocalDateTime fireAt, TimerKind kind, long id) {
+    }
+}
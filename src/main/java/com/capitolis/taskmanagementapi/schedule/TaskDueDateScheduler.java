@@ -0,0 +1,163 @@
+package com.capitolis.taskmanagementapi.schedule;
+
+import com.capitolis.taskmanagementapi.dto.DueTask;
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.event.TaskDueEvent;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks due dates of open tasks in memory and announces them, so nobody has to poll the whole table.
+
+ * - Loaded with one query at startup (open tasks with a due date, four columns each), then kept in sync from the
+ *   TaskChangedEvents that TaskService publishes - the same pattern as the search index and the status counters.
+ * - Status changes by id reload just those rows. Status changes by filter don't say which rows changed,
+ *   so they schedule one full reload (debounced, and repeated if writes raced with it).
+ * - A tick every app.due-dates.tick-ms fires the timers that are due and publishes a TaskDueEvent per kind
+ *   (the change feed forwards them as "overdue" / "due-soon" events).
+ */
+@Service
+public class TaskDueDateScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDueDateScheduler.class);
+
+    // Ids per IN list when reloading rows after a bulk status change
+    private static final int RELOAD_CHUNK_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DueDateIndex index;
+    private final long tickMs;
+
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+    private final AtomicLong changesSeen = new AtomicLong(); // Lets a reload detect writes that raced with it
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-due-dates");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public TaskDueDateScheduler(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher,
+                                @Value("${app.due-dates.due-soon-minutes:60}") long dueSoonMinutes,
+                                @Value("${app.due-dates.tick-ms:1000}") long tickMs) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.index = new DueDateIndex(Duration.ofMinutes(dueSoonMinutes));
+        this.tickMs = tickMs;
+    }
+
+    public List<DueTask> getOverdue(int limit) {
+        return index.overdue(LocalDateTime.now(), limit);
+    }
+
+    public List<DueTask> getUpcoming(Duration within, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return index.upcoming(now, now.plus(within), limit);
+    }
+
+    public int trackedTasks() {
+        return index.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        load(true);
+        executor.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        changesSeen.incrementAndGet();
+        switch (event.type()) {
+            case CREATED, UPDATED, COMPLETED -> event.tasks().forEach(task -> index.upsert(DueTask.of(task)));
+            case DELETED -> event.ids().forEach(index::remove);
+            case STATUS_CHANGED -> {
+                if (event.affectsUnknownRows()) {
+                    scheduleReload();
+                } else {
+                    reload(event.ids());
+                }
+            }
+        }
+    }
+
+    // Fire the timers that are due - each kind goes out as one event, however many tasks it holds
+    void tick() {
+        try {
+            DueDateIndex.Fired fired = index.fire(LocalDateTime.now());
+            if (!fired.overdue().isEmpty()) {
+                eventPublisher.publishEvent(new TaskDueEvent(TaskDueEvent.Kind.OVERDUE, fired.overdue()));
+            }
+            if (!fired.dueSoon().isEmpty()) {
+                eventPublisher.publishEvent(new TaskDueEvent(TaskDueEvent.Kind.DUE_SOON, fired.dueSoon()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Due-date tick failed", e); // Keep the schedule alive - an exception would cancel it
+        }
+    }
+
+    // Reload the given rows - the ones still open with a due date are upserted, the rest removed
+    private void reload(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, ids.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            for (DueTask task : taskRepository.findByIdIn(chunk, DueTask.class)) {
+                missing.remove(task.id());
+                index.upsert(task);
+            }
+            missing.forEach(index::remove);
+        }
+    }
+
+    private void scheduleReload() {
+        if (reloadScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> load(false));
+        }
+    }
+
+    // One query for every open task with a due date - served by the (status, due_date) index.
+    // At startup, timers that elapsed while the application was down are skipped (no re-announcing after a restart).
+    // Afterwards, pending timers survive the reload, so what came due since the last tick is still announced.
+    synchronized void load(boolean startup) {
+        reloadScheduled.set(false);
+        long changesBefore = changesSeen.get();
+        List<DueTask> tasks = taskRepository.findByStatusNotAndDueDateIsNotNull(TaskStatus.DONE, DueTask.class);
+        if (startup) {
+            index.replaceAll(tasks, LocalDateTime.now());
+        } else {
+            index.sync(tasks);
+        }
+
+        // A write committed during the query may be missing from the result - load again to be sure
+        if (changesSeen.get() != changesBefore) {
+            scheduleReload();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,7 @@
+package com.capitolis.taskmanagementapi.search;
+
+/**
+ * One ranked match from the search index - the task id and its relevance score (higher is better).
+ */
+public record SearchHit(long id, double score) {
+}
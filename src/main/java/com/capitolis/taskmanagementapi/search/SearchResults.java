@@ -0,0 +1,11 @@
+package com.capitolis.taskmanagementapi.search;
+
+import java.util.List;
+
+/**
+ * The requested slice of ranked hits, plus how many tasks matched in total.
+ * truncated: a query word was a prefix of more than MAX_PREFIX_EXPANSIONS words, so the rarest ones were skipped
+ * and total is a lower bound.
+ */
+public record SearchResults(List<SearchHit> hits, int total, boolean truncated) {
+}
@@ -0,0 +1,290 @@
+package com.capitolis.taskmanagementapi.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over task title + description.
+
+ * term -> posting list of (task id, weight). A query token matches a term exactly or as a prefix ("spr" finds "spring"),
+ * every query token must match (AND), and results are ranked by a TF-IDF style score where title words count more
+ * than description words. A short prefix expands to at most MAX_PREFIX_EXPANSIONS terms, the ones in the most tasks:
+ * the results then say they are truncated, and total is a lower bound. Lookups never touch the database, unlike LOWER(title) LIKE '%kw%' which scans the whole table.
+
+ * Updates are append-only: re-indexing a task appends new postings with a higher version and the old ones become stale.
+ * Stale postings are skipped at query time and dropped when a posting list is more than half stale (compaction).
+ * One read/write lock keeps it simple: searches run in parallel, index updates are exclusive.
+ */
+public class TaskSearchIndex {
+
+    static final float TITLE_WEIGHT = 3.0f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+    static final double PREFIX_MATCH_FACTOR = 0.6;  // A prefix match counts less than the exact word
+    static final int MAX_PREFIX_EXPANSIONS = 64;    // Upper bound on terms a short prefix like "a" can expand to (the exact word included)
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>(); // Sorted, so prefixes are a subMap range scan
+    private final Map<Long, IndexedDoc> docs = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nextVersion; // Global, so a task removed and indexed again never revives its old postings
+
+    // Add or replace a task in the index
+    public void index(long id, String title, String description) {
+        Map<String, Float> weights = new HashMap<>();
+        for (String term : tokenize(title)) {
+            weights.merge(term, TITLE_WEIGHT, Float::sum);
+        }
+        for (String term : tokenize(description)) {
+            weights.merge(term, DESCRIPTION_WEIGHT, Float::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            IndexedDoc previous = docs.get(id);
+            int version = nextVersion++;
+            docs.put(id, new IndexedDoc(version, weights.keySet().toArray(String[]::new))); // Register first, so the old postings already count as stale
+            if (previous != null) {
+                markStale(previous);
+            }
+            for (Map.Entry<String, Float> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList())
+                        .add(id, version, saturate(entry.getValue()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Remove a task from the index (no-op when it isn't indexed)
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            IndexedDoc previous = docs.remove(id);
+            if (previous != null) {
+                markStale(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked search - returns the hits between offset and offset + limit (best first) plus the total number of matches.
+     * Only the top offset + limit hits are kept in a heap, so a query matching 500k tasks doesn't sort 500k entries.
+     */
+    public SearchResults search(String query, int offset, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return new SearchResults(List.of(), 0, false);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            boolean truncated = false;
+            for (String token : tokens) {
+                List<Map.Entry<String, PostingList>> terms = expand(token);
+                truncated |= terms.size() > MAX_PREFIX_EXPANSIONS;
+                Map<Long, Double> tokenScores = scoreToken(token, terms.subList(0, Math.min(terms.size(), MAX_PREFIX_EXPANSIONS)));
+                if (scores == null) {
+                    scores = tokenScores;
+                } else { // AND - keep only tasks that also matched this token
+                    Map<Long, Double> small = scores.size() <= tokenScores.size() ? scores : tokenScores;
+                    Map<Long, Double> large = small == scores ? tokenScores : scores;
+                    Map<Long, Double> merged = new HashMap<>();
+                    for (Map.Entry<Long, Double> entry : small.entrySet()) {
+                        Double other = large.get(entry.getKey());
+                        if (other != null) {
+                            merged.put(entry.getKey(), entry.getValue() + other);
+                        }
+                    }
+                    scores = merged;
+                }
+                if (scores.isEmpty()) {
+                    return new SearchResults(List.of(), 0, truncated);
+                }
+            }
+            return new SearchResults(topHits(scores, offset, limit), scores.size(), truncated);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The live terms a query token matches: the exact word first, then the longer words it is a prefix of,
+     * most frequent first. Only the first MAX_PREFIX_EXPANSIONS are scored - one entry more is kept, so the caller
+     * can tell that some were left out. Rare words go first: they would add the fewest matches.
+     */
+    private List<Map.Entry<String, PostingList>> expand(String token) {
+        Comparator<Map.Entry<String, PostingList>> byFrequency = Comparator.comparingInt(entry -> entry.getValue().liveCount());
+        PriorityQueue<Map.Entry<String, PostingList>> mostFrequent = new PriorityQueue<>(byFrequency); // Rarest on top
+        Map.Entry<String, PostingList> exact = null;
+
+        for (Map.Entry<String, PostingList> entry : postings.tailMap(token, true).entrySet()) {
+            String term = entry.getKey();
+            if (!term.startsWith(token)) {
+                break;
+            }
+            if (entry.getValue().liveCount() == 0) {
+                continue;
+            }
+            if (term.equals(token)) {
+                exact = entry;
+                continue;
+            }
+            mostFrequent.offer(entry);
+            if (mostFrequent.size() > MAX_PREFIX_EXPANSIONS + 1) { // Enough to fill the list, plus the one that tells it's full
+                mostFrequent.poll();
+            }
+        }
+
+        List<Map.Entry<String, PostingList>> terms = new ArrayList<>(mostFrequent.size() + 1);
+        if (exact != null) {
+            terms.add(exact);
+        }
+        List<Map.Entry<String, PostingList>> prefixes = new ArrayList<>(mostFrequent);
+        prefixes.sort(byFrequency.reversed());
+        terms.addAll(prefixes);
+        return terms;
+    }
+
+    // Score of every task matching one query token, through any of its expanded terms
+    private Map<Long, Double> scoreToken(String token, List<Map.Entry<String, PostingList>> terms) {
+        Map<Long, Double> scores = new HashMap<>();
+        int totalDocs = Math.max(1, docs.size());
+
+        for (Map.Entry<String, PostingList> entry : terms) {
+            PostingList list = entry.getValue();
+            double idf = Math.log(1.0 + (double) totalDocs / list.liveCount());
+            double factor = entry.getKey().equals(token) ? 1.0 : PREFIX_MATCH_FACTOR;
+
+            for (int i = 0; i < list.size; i++) {
+                long id = list.ids[i];
+                IndexedDoc doc = docs.get(id);
+                if (doc == null || doc.version() != list.versions[i]) {
+                    continue; // Stale posting from a removed or re-indexed task
+                }
+                double score = idf * list.weights[i] * factor;
+                scores.merge(id, score, Math::max); // A token counts once per task - its best matching term
+            }
+        }
+        return scores;
+    }
+
+    private static List<SearchHit> topHits(Map<Long, Double> scores, int offset, int limit) {
+        int keep = offset + limit;
+        if (keep <= 0 || offset >= scores.size()) {
+            return List.of();
+        }
+        // Best first: higher score, then lower id so the order is stable across pages
+        Comparator<SearchHit> ranking = Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparingLong(SearchHit::id);
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(keep + 1, ranking.reversed()); // Worst hit on top
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(new SearchHit(entry.getKey(), entry.getValue()));
+            if (heap.size() > keep) {
+                heap.poll();
+            }
+        }
+        List<SearchHit> ranked = new ArrayList<>(heap);
+        ranked.sort(ranking);
+        return ranked.subList(Math.min(offset, ranked.size()), ranked.size());
+    }
+
+    private void markStale(IndexedDoc doc) {
+        for (String term : doc.terms()) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            list.stale++;
+            if (list.liveCount() == 0) {
+                postings.remove(term);
+            } else if (list.stale > list.size / 2 && list.size > 16) {
+                list.compact(docs);
+            }
+        }
+    }
+
+    // Diminishing returns: a word repeated 10 times isn't 10x more relevant
+    private static float saturate(float weight) {
+        return weight * 2.2f / (weight + 1.2f);
+    }
+
+    // Lowercase words made of letters and digits - "Fix login-page bug #42" -> [fix, login, page, bug, 42]
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record IndexedDoc(int version, String[] terms) {
+    }
+
+    // Growable parallel arrays - far less memory than a Map<Long, Float> per term at a million tasks
+    private static final class PostingList {
+        long[] ids = new long[4];
+        int[] versions = new int[4];
+        float[] weights = new float[4];
+        int size;
+        int stale;
+
+        void add(long id, int version, float weight) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                versions = Arrays.copyOf(versions, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            ids[size] = id;
+            versions[size] = version;
+            weights[size] = weight;
+            size++;
+        }
+
+        int liveCount() {
+            return size - stale;
+        }
+
+        // Drop stale postings, keeping only entries whose version is the task's current one
+        void compact(Map<Long, IndexedDoc> docs) {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                IndexedDoc doc = docs.get(ids[i]);
+                if (doc != null && doc.version() == versions[i]) {
+                    ids[live] = ids[i];
+                    versions[live] = versions[i];
+                    weights[live] = weights[i];
+                    live++;
+                }
+            }
+            size = live;
+            stale = 0;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.capitolis.taskmanagementapi.search;
+
+import com.capitolis.taskmanagementapi.dto.SearchPage;
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over title and description, backed by the in-memory TaskSearchIndex.
+ * The index is built once at startup and then kept in sync from the TaskChangedEvents that TaskService publishes.
+ * The build fills a new index while the current one keeps serving and receiving events. Events that arrive during
+ * the build are buffered, replayed into the new index, and then the new index replaces the old one. A write made
+ * during the build is therefore never lost or overwritten by the older row the build read.
+ * Only the ids of the requested page are loaded from the database (one findAllById by primary key).
+ */
+@Service
+public class TaskSearchService {
+
+    // Ranked results are paged with offset, so cap how deep a client can page (the heap holds offset + size hits)
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final Object indexLock = new Object(); // Orders event handling against the end of a rebuild
+    private volatile TaskSearchIndex index = new TaskSearchIndex();
+    private List<TaskChangedEvent> eventsDuringRebuild; // Guarded by indexLock, non-null while a rebuild runs
+
+    @Autowired
+    public TaskSearchService(TaskRepository taskRepository, EntityManager entityManager) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+    }
+
+    // Ranked search, returns the slice [offset, offset + size) of the results
+    public SearchPage search(String query, int offset, int size) {
+        if (offset < 0 || offset + size > MAX_RESULT_WINDOW) {
+            throw new BadRequestException("offset + size must be between 0 and " + MAX_RESULT_WINDOW);
+        }
+        SearchResults results = index.search(query, offset, size);
+        if (results.hits().isEmpty()) {
+            return new SearchPage(List.of(), results.total(), offset, results.truncated());
+        }
+
+        List<Long> ids = results.hits().stream().map(SearchHit::id).toList();
+        Map<Long, Task> tasksById = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // Keep the ranking order - findAllById returns rows in any order
+        List<SearchPage.Result> items = new ArrayList<>(results.hits().size());
+        for (SearchHit hit : results.hits()) {
+            Task task = tasksById.get(hit.id());
+            if (task != null) { // Deleted between the index lookup and the load
+                items.add(new SearchPage.Result(task, hit.score()));
+            }
+        }
+        return new SearchPage(items, results.total(), offset, results.truncated());
+    }
+
+    // Build the index from the database once the application is up. Rows are streamed, so 1M tasks never sit in memory together.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        synchronized (indexLock) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+        TaskSearchIndex rebuilt = new TaskSearchIndex();
+        try {
+            try (Stream<Task> tasks = taskRepository.streamForExport(null, null)) {
+                tasks.forEach(task -> {
+                    rebuilt.index(task.getId(), task.getTitle(), task.getDescription());
+                    entityManager.detach(task);
+                });
+            }
+            synchronized (indexLock) {
+                // The stream may have read a row from before one of these writes - replaying them in order fixes that
+                eventsDuringRebuild.forEach(event -> apply(rebuilt, event));
+                index = rebuilt;
+            }
+        } finally {
+            synchronized (indexLock) {
+                eventsDuringRebuild = null; // A failed rebuild keeps the old index, which got every event
+            }
+        }
+    }
+
+    // Keep the index in sync after each committed write (or right away when the write ran without a transaction)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        synchronized (indexLock) {
+            apply(index, event);
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+        }
+    }
+
+    private static void apply(TaskSearchIndex index, TaskChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED, COMPLETED -> event.tasks().forEach(task ->
+                    index.index(task.getId(), task.getTitle(), task.getDescription()));
+            case DELETED -> event.ids().forEach(index::remove);
+            case STATUS_CHANGED -> {
+                // Title and description didn't change - nothing to re-index
+            }
+        }
+    }
+
+    public int indexedTasks() {
+        return index.size();
+    }
+}
@@ -0,0 +1,117 @@
+package com.capitolis.taskmanagementapi.service;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.DueTask;
+import com.capitolis.taskmanagementapi.dto.TaskDashboard;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.routing.RoutingContext;
+import com.capitolis.taskmanagementapi.schedule.TaskDueDateScheduler;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking facade over TaskService, for callers that need several lookups at once (dashboard, batch lookups).
+ * Each call runs on a dedicated executor and returns a CompletableFuture, so independent queries run in parallel
+ * instead of one after the other.
+
+ * The executor is bounded on both sides:
+ * - app.async.threads workers - keep it below the connection pool size, or the workers just queue for connections
+ * - app.async.queue-capacity waiting calls - beyond that calls fail right away with RejectedExecutionException (503)
+ *   instead of piling up
+ * Every future also fails with a TimeoutException after app.async.timeout-ms (504). The query itself isn't cancelled -
+ * JDBC can't be interrupted safely - the caller just stops waiting for it.
+ * Workers run with the calling request's RoutingContext (read-after version, pin), so a client that has just written
+ * isn't answered by a lagging replica or a stale cache entry just because the read moved to another thread.
+ */
+@Service
+public class AsyncTaskService {
+
+    private final TaskService taskService;
+    private final TaskStatusCounters taskStatusCounters;
+    private final TaskDueDateScheduler dueDateScheduler;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    @Autowired
+    public AsyncTaskService(TaskService taskService, TaskStatusCounters taskStatusCounters, TaskDueDateScheduler dueDateScheduler,
+                            @Value("${app.async.threads:8}") int threads,
+                            @Value("${app.async.queue-capacity:200}") int queueCapacity,
+                            @Value("${app.async.timeout-ms:2000}") long timeoutMs) {
+        this.taskService = taskService;
+        this.taskStatusCounters = taskStatusCounters;
+        this.dueDateScheduler = dueDateScheduler;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-async-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<Optional<Task>> getTaskById(Long id) {
+        return supply(() -> taskService.getTaskById(id));
+    }
+
+    public CompletableFuture<CursorPage<TaskSummary>> getTaskSummariesByStatusPage(TaskStatus status, String cursor, int size) {
+        return supply(() -> taskService.getTaskSummariesByStatusPage(status, cursor, size));
+    }
+
+    // Several tasks by id, in request order - missing ids are skipped.
+    // One worker call for the whole list (cache hits + one IN query for the misses), so a long id list takes one
+    // queue slot, not one per id
+    public CompletableFuture<List<Task>> getTasksByIds(List<Long> ids) {
+        return supply(() -> taskService.getTasksByIds(ids));
+    }
+
+    // One status page per status, all at once. Counts and overdue tasks are in memory already, so they don't need a worker.
+    public CompletableFuture<TaskDashboard> getDashboard(int pageSize, int overdueSize) {
+        Map<TaskStatus, CompletableFuture<CursorPage<TaskSummary>>> pages = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            pages.put(status, getTaskSummariesByStatusPage(status, null, pageSize));
+        }
+        Map<TaskStatus, Long> counts = taskStatusCounters.snapshot();
+        List<DueTask> overdue = dueDateScheduler.getOverdue(overdueSize);
+
+        return CompletableFuture.allOf(pages.values().toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    Map<TaskStatus, CursorPage<TaskSummary>> byStatus = new EnumMap<>(TaskStatus.class);
+                    pages.forEach((status, page) -> byStatus.put(status, page.join()));
+                    return new TaskDashboard(counts, byStatus, overdue);
+                });
+    }
+
+    // Runs on the bounded executor with a deadline, in the caller's routing context.
+    // A full queue fails the future instead of throwing at the caller.
+    private <T> CompletableFuture<T> supply(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(RoutingContext.withCurrentRequest(call), executor).orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
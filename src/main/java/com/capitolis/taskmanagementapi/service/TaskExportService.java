@@ -0,0 +1,62 @@
+package com.capitolis.taskmanagementapi.service;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes tasks as newline-delimited JSON (NDJSON) - one JSON object per line.
+ * Memory stays flat whatever the table size: rows come from a database cursor,
+ * each one is serialized straight to the response and then detached so the persistence context never grows.
+ */
+@Service
+public class TaskExportService {
+
+    // How often (in rows) we push the buffered bytes to the client, so downstream jobs start receiving data immediately
+    private static final int FLUSH_EVERY = 500;
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager; // Needed only to detach each exported entity
+    private final ObjectMapper objectMapper;   // The same Jackson mapper Spring MVC uses, so the export matches GET /api/tasks
+
+    @Autowired
+    public TaskExportService(TaskRepository taskRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    // Stream every task matching the optional filters to the output stream, returns the number of exported tasks
+    @Transactional(readOnly = true) // The JDBC cursor behind the Stream only lives as long as the transaction
+    public long exportNdjson(TaskStatus status, String keyword, OutputStream out) throws IOException {
+        String keywordFilter = (keyword == null || keyword.isBlank()) ? null : keyword;
+        long count = 0;
+
+        try (Stream<Task> tasks = taskRepository.streamForExport(status, keywordFilter)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                out.write(objectMapper.writeValueAsBytes(task)); // writeValueAsBytes (not writeValue) so Jackson never closes the response stream
+                out.write('\n');
+                entityManager.detach(task); // Let the entity be garbage collected right away
+
+                if (++count % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            }
+        }
+
+        out.flush();
+        return count;
+    }
+}
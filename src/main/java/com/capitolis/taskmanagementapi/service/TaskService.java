@@ -1,13 +1,40 @@
 package com.capitolis.taskmanagementapi.service;
 
+import com.capitolis.taskmanagementapi.cache.CachedTask;
+import com.capitolis.taskmanagementapi.cache.TaskCacheConfig;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResponse;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResult;
+import com.capitolis.taskmanagementapi.dto.BulkStatusUpdateRequest;
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.exception.TaskNotFoundException;
 import com.capitolis.taskmanagementapi.model.Task;
 import com.capitolis.taskmanagementapi.model.TaskStatus;
 import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import com.capitolis.taskmanagementapi.routing.ReadFromReplica;
+import com.capitolis.taskmanagementapi.routing.RoutingContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The service layer is responsible for containing business logic and interacting with the repository layer to perform operations on Task
@@ -18,8 +45,20 @@ import java.util.Optional;
 @Service // @Service annotation indicates that this class is a service component in the Spring framework, which is responsible for containing business logic and interacting with the repository layer to perform operations on Task entities. It allows us to define methods for creating, retrieving, updating, and deleting tasks, as well as any additional business logic related to task management.
 public class TaskService {
 
+    // Bulk creates are flushed every BULK_FLUSH_SIZE tasks - each flush is sent as JDBC batches of hibernate.jdbc.batch_size
+    private static final int BULK_FLUSH_SIZE = 500;
+
+    // Bulk deletes are split into IN lists of this size, to keep each statement (and its parameter list) reasonable
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final TaskRepository taskRepository; // TaskRepository is injected into the TaskService to allow it to perform database operations on Task entities. By using @Autowired, Spring will automatically inject an instance of TaskRepository when creating an instance of TaskService, enabling us to use the repository's methods for CRUD operations and custom queries on tasks.
 
+    // Every write publishes a TaskChangedEvent - listeners (like the search index) keep themselves in sync from it
+    private final ApplicationEventPublisher eventPublisher;
+
+    // The "tasks" cache of single tasks - filled by getTaskById, also read by getTasksByIds and getCachedTaskById
+    private final CacheManager cacheManager;
+
     // Dependency Injection (Spring Core Magic!)
 
     /**
@@ -28,66 +67,325 @@ public class TaskService {
      * This is one of the core concepts your team lead mentioned!
      */
     @Autowired // @Autowired annotation is used to automatically inject the TaskRepository dependency into the TaskService class. This allows us to use the repository's methods for performing database operations on Task entities without needing to manually instantiate the repository.
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher, CacheManager cacheManager) {
         this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
     }
 
 
     // Create a new task and save it to the database
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(saved));
+        return saved;
+    }
+
+    // Create many tasks in one transaction using JDBC batch inserts.
+    // Invalid items are rejected individually (with their index) instead of failing the whole request.
+    @Transactional
+    public BulkCreateResponse createTasks(List<Task> tasks) {
+        BulkCreateResult[] results = new BulkCreateResult[tasks.size()];
+        List<Task> chunk = new ArrayList<>(BULK_FLUSH_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BULK_FLUSH_SIZE);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task == null || task.getTitle() == null || task.getTitle().isBlank()) {
+                results[i] = BulkCreateResult.rejected(i, "title is required");
+                continue;
+            }
+            task.setId(null); // Always insert - never merge over an existing row
+            if (task.getStatus() == null) {
+                task.setStatus(TaskStatus.TODO);
+            }
+            chunk.add(task);
+            chunkIndexes.add(i);
+
+            if (chunk.size() == BULK_FLUSH_SIZE) {
+                saveChunk(chunk, chunkIndexes, results);
+            }
+        }
+        saveChunk(chunk, chunkIndexes, results);
+
+        List<Task> createdTasks = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i].outcome() == BulkCreateResult.Outcome.CREATED) {
+                createdTasks.add(tasks.get(i));
+            }
+        }
+        if (!createdTasks.isEmpty()) {
+            eventPublisher.publishEvent(TaskChangedEvent.created(createdTasks));
+        }
+
+        int created = 0;
+        for (BulkCreateResult result : results) {
+            if (result.outcome() == BulkCreateResult.Outcome.CREATED) {
+                created++;
+            }
+        }
+        return new BulkCreateResponse(created, tasks.size() - created, List.of(results));
+    }
+
+    // saveAll + flush sends the pending INSERTs to the database as JDBC batches
+    private void saveChunk(List<Task> chunk, List<Integer> chunkIndexes, BulkCreateResult[] results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Task> saved = taskRepository.saveAll(chunk);
+        taskRepository.flush();
+        for (int i = 0; i < saved.size(); i++) {
+            int index = chunkIndexes.get(i);
+            results[index] = BulkCreateResult.created(index, saved.get(i).getId());
+        }
+        chunk.clear();
+        chunkIndexes.clear();
     }
 
     // Get all tasks from the database
+    @ReadFromReplica
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
     // Get a task by ID -- Optional is a container object which may or may not contain a non-null value. If a value is present, isPresent() will return true and get() will return the value.
+    // Read-through cache: served from the "tasks" cache when present, otherwise loaded and cached.
+    // The cache holds immutable CachedTask snapshots, so every caller gets its own Task to modify.
+    // The load runs inside the cache's atomic get: TaskCacheInvalidator's put/evict for the same id waits for it,
+    // so an invalidation can't be overwritten by a row read before the write committed.
+    // A missing id is cached as absent too - TaskCacheInvalidator evicts every created id.
+    // A client that has just written skips the cache (RoutingContext.hasRecentWrite) and reads a fresh database.
+    @ReadFromReplica
     public Optional<Task> getTaskById(Long id) {
-        return taskRepository.findById(id);
+        Cache cache = tasksCache();
+        if (cache == null) {
+            return taskRepository.findById(id);
+        }
+        CachedTask cached = cache.get(id, () -> taskRepository.findById(id).map(CachedTask::of).orElse(null));
+        return Optional.ofNullable(cached).map(CachedTask::toTask);
+    }
+
+    // The cached task, without loading it on a miss - lets a conditional GET skip the database when the task is cached.
+    // Empty on a miss, and for a client that has just written (see getTaskById).
+    public Optional<Task> getCachedTaskById(Long id) {
+        Cache cache = tasksCache();
+        return cache == null ? Optional.empty() : Optional.ofNullable(cache.get(id, CachedTask.class)).map(CachedTask::toTask);
+    }
+
+    // Several tasks by id, in request order (missing ids are skipped).
+    // Cached tasks come from the "tasks" cache, all the others are loaded with one SELECT ... WHERE id IN (...).
+    // The loaded rows aren't put into the cache - only getTaskById fills it. Skips the cache like getTaskById does.
+    @ReadFromReplica
+    public List<Task> getTasksByIds(List<Long> ids) {
+        Cache cache = tasksCache();
+        Map<Long, Task> found = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long id : ids) {
+            CachedTask cached = cache == null ? null : cache.get(id, CachedTask.class);
+            if (cached != null) {
+                found.put(id, cached.toTask());
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            taskRepository.findAllById(misses).forEach(task -> found.put(task.getId(), task));
+        }
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    // The "tasks" cache, or null when caching is off or the client has just written
+    private Cache tasksCache() {
+        return RoutingContext.hasRecentWrite() ? null : cacheManager.getCache(TaskCacheConfig.TASKS_CACHE);
+    }
+
+    // Last-modified time of a task (one column by primary key) - used for ETags, empty when the task doesn't exist
+    public Optional<LocalDateTime> getTaskUpdatedAt(Long id) {
+        return taskRepository.findUpdatedAtById(id);
     }
 
-    // Update a task
+    // Update a task - one statement inside one transaction: the UPDATE also returns the row as it was before it.
+    // A missing id is detected from the empty result, not from a SELECT before the write.
+    // The old row gives the status being replaced (for the status counters) and the columns the PUT doesn't change,
+    // so the updated task is built from it instead of being read back. A body without a status keeps the current one.
+    @Transactional
     public Task updateTask(Long id, Task taskDetails) {
-        Task task = taskRepository.findById(id) // Finding the task according to ID
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+        LocalDateTime now = now();
+        Task task = taskRepository.updateFields(id,
+                        taskDetails.getTitle(),
+                        taskDetails.getDescription(),
+                        taskDetails.getStatus(),
+                        taskDetails.getDueDate(),
+                        now)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskStatus previousStatus = task.getStatus();
 
-        // Actual update
+        // The old row is detached, so these setters don't write anything
         task.setTitle(taskDetails.getTitle());
         task.setDescription(taskDetails.getDescription());
-        task.setStatus(taskDetails.getStatus());
+        if (taskDetails.getStatus() != null) {
+            task.setStatus(taskDetails.getStatus());
+        }
         task.setDueDate(taskDetails.getDueDate());
-
-        // Saving the updated task back to the database
-        return taskRepository.save(task);
+        task.setUpdatedAt(now);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(task, previousStatus));
+        return task;
     }
 
-    // Delete a task from the database
+    // Delete a task from the database - a single DELETE that returns the status of the deleted row (none = 404)
+    @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) { // checking if the task exists before trying to delete it.
-            throw new RuntimeException("Task not found with id: " + id);
+        TaskStatus status = taskRepository.deleteTaskById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(List.of(id), Map.of(status, 1L)));
+    }
+
+    // Delete many tasks by id, returns how many were actually deleted (ids that don't exist are simply skipped)
+    // One DELETE per chunk, returning the statuses of the rows it removed, so the counters know what went away
+    @Transactional
+    public int deleteTasks(List<Long> ids) {
+        Map<TaskStatus, Long> deletedByStatus = new EnumMap<>(TaskStatus.class);
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            for (TaskStatus status : taskRepository.deleteTasksByIds(chunk)) {
+                deletedByStatus.merge(status, 1L, Long::sum);
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(List.copyOf(ids), deletedByStatus));
         }
-        taskRepository.deleteById(id);
+        return deleted;
     }
 
     // Finding method coming from the TaskRepository interface.
     // Get tasks by status
+    @ReadFromReplica
     public List<Task> getTasksByStatus(TaskStatus status) {
         return taskRepository.findByStatus(status); // This method calls the findByStatus method defined in the TaskRepository interface, which is automatically implemented by Spring Data JPA based on the method name. It retrieves a list of tasks that match the specified status from the database.
     }
 
     // Search tasks by title
+    @ReadFromReplica
     public List<Task> searchTasksByTitle(String keyword) {
         return taskRepository.findByTitleContainingIgnoreCase(keyword); // This method calls the findBy title
     }
 
-    // Mark task as complete
+    // Move every task matching the ids (or the filter) to the target status, returns how many tasks changed.
+    // One UPDATE per source status (at most two): each row count is exactly how many tasks moved from that status,
+    // which keeps the status counters exact without reading the rows.
+    @Transactional
+    public int updateStatus(BulkStatusUpdateRequest request) {
+        TaskStatus target = request.targetStatus();
+        if (target == null) {
+            throw new BadRequestException("targetStatus is required");
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        if (request.hasIds()) {
+            Map<TaskStatus, Long> movedFrom = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus source : sourcesOf(null, target)) {
+                movedFrom.put(source, (long) taskRepository.updateStatusByIds(request.ids(), source, target, now));
+            }
+            return publishStatusChanged(request.ids(), movedFrom, target);
+        }
+        if (!request.hasFilter()) { // Refuse to silently update the whole table
+            throw new BadRequestException("Provide ids or at least one filter (status, dueBefore, keyword)");
+        }
+        String keyword = (request.keyword() == null || request.keyword().isBlank()) ? null : request.keyword();
+        Map<TaskStatus, Long> movedFrom = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus source : sourcesOf(request.status(), target)) {
+            movedFrom.put(source, (long) taskRepository.updateStatusByFilter(source, request.dueBefore(), keyword, target, now));
+        }
+        return publishStatusChanged(null, movedFrom, target); // The matching ids are unknown
+    }
+
+    // The statuses a bulk transition can move tasks out of - the filtered status only, or every status but the target
+    private static List<TaskStatus> sourcesOf(TaskStatus filter, TaskStatus target) {
+        if (filter != null) {
+            return filter == target ? List.of() : List.of(filter);
+        }
+        return Arrays.stream(TaskStatus.values()).filter(status -> status != target).toList();
+    }
+
+    private int publishStatusChanged(List<Long> ids, Map<TaskStatus, Long> movedFrom, TaskStatus target) {
+        int updated = movedFrom.values().stream().mapToInt(Long::intValue).sum();
+        if (updated > 0) {
+            eventPublisher.publishEvent(TaskChangedEvent.statusChanged(ids, movedFrom, target));
+        }
+        return updated;
+    }
+
+    // ==================== Keyset (cursor) pagination ====================
+    // Each method fetches size + 1 rows: the extra row is never returned, it only tells us if there is a next page.
+    // Pages may come from a replica: a cursor is just the last id, so the next page can be read anywhere.
+    // Their list ETags come from TaskTableVersion.replicaReadWeakETag(), which never claims writes a replica lacks.
+
+    // Get one page of all tasks, ordered by id
+    @ReadFromReplica
+    public CursorPage<Task> getTasksPage(String cursor, int size) {
+        long afterId = CursorPage.decodeCursor(cursor);
+        List<Task> rows = taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+        return CursorPage.of(rows, size, Task::getId);
+    }
+
+    // Get one page of tasks with the given status
+    @ReadFromReplica
+    public CursorPage<Task> getTasksByStatusPage(TaskStatus status, String cursor, int size) {
+        long afterId = CursorPage.decodeCursor(cursor);
+        List<Task> rows = taskRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterId, Limit.of(size + 1));
+        return CursorPage.of(rows, size, Task::getId);
+    }
+
+    // Get one page of tasks whose title contains the keyword
+    @ReadFromReplica
+    public CursorPage<Task> searchTasksByTitlePage(String keyword, String cursor, int size) {
+        long afterId = CursorPage.decodeCursor(cursor);
+        List<Task> rows = taskRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(keyword, afterId, Limit.of(size + 1));
+        return CursorPage.of(rows, size, Task::getId);
+    }
+
+    // Summary versions of the three pages above - same queries, but only id, title and status are selected
+
+    @ReadFromReplica
+    public CursorPage<TaskSummary> getTaskSummariesPage(String cursor, int size) {
+        long afterId = CursorPage.decodeCursor(cursor);
+        List<TaskSummary> rows = taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1), TaskSummary.class);
+        return CursorPage.of(rows, size, TaskSummary::id);
+    }
+
+    @ReadFromReplica
+    public CursorPage<TaskSummary> getTaskSummariesByStatusPage(TaskStatus status, String cursor, int size) {
+        long afterId = CursorPage.decodeCursor(cursor);
+        List<TaskSummary> rows = taskRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterId, Limit.of(size + 1), TaskSummary.class);
+        return CursorPage.of(rows, size, TaskSummary::id);
+    }
+
+    @ReadFromReplica
+    public CursorPage<TaskSummary> searchTaskSummariesByTitlePage(String keyword, String cursor, int size) {
+        long afterId = CursorPage.decodeCursor(cursor);
+        List<TaskSummary> rows = taskRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(keyword, afterId, Limit.of(size + 1), TaskSummary.class);
+        return CursorPage.of(rows, size, TaskSummary::id);
+    }
+
+    // Mark task as complete - same pattern as updateTask: one UPDATE returning the old row, result built from it
+    @Transactional
     public Task markTaskAsComplete(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+        LocalDateTime now = now();
+        Task task = taskRepository.updateStatusById(id, TaskStatus.DONE, now)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskStatus previousStatus = task.getStatus();
 
         task.setStatus(TaskStatus.DONE);
-        return taskRepository.save(task);
+        task.setUpdatedAt(now);
+        eventPublisher.publishEvent(TaskChangedEvent.completed(task, previousStatus));
+        return task;
+    }
+
+    // Timestamps are stored with microsecond precision - truncating up front makes a task built in memory
+    // identical to the row the database keeps (and to what a later GET returns)
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
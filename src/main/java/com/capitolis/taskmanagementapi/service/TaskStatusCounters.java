@@ -0,0 +1,113 @@
+package com.capitolis.taskmanagementapi.service;
+
+import com.capitolis.taskmanagementapi.dto.TaskStatusCount;
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of tasks per status, kept in memory so GET /api/tasks/summary never touches the database.
+
+ * Seeded with one GROUP BY status query at startup, then updated from TaskChangedEvents:
+ * every write path knows exactly how many tasks entered and left each status (TaskChangedEvent.statusDeltas),
+ * so each event is applied as increments/decrements of a LongAdder (striped, no contention between writers).
+ * A write that commits while the seed query runs may or may not be in its result - only then is a recount scheduled.
+ */
+@Component
+public class TaskStatusCounters {
+
+    private final TaskRepository taskRepository;
+    private final Map<TaskStatus, LongAdder> counters = new EnumMap<>(TaskStatus.class);
+
+    private final AtomicBoolean recountScheduled = new AtomicBoolean();
+    private final AtomicLong changesSeen = new AtomicLong(); // Lets a recount detect writes that raced with it
+    private final ScheduledExecutorService recountExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-status-recount");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // How long to wait before counting again when writes raced with a count, so a burst of them is folded into one query
+    @Value("${app.counters.recount-delay-ms:200}")
+    private long recountDelayMs;
+
+    @Autowired
+    public TaskStatusCounters(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+        for (TaskStatus status : TaskStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+    }
+
+    // O(1) snapshot of the counters - the map is built from at most three LongAdder sums
+    public Map<TaskStatus, Long> snapshot() {
+        Map<TaskStatus, Long> snapshot = new EnumMap<>(TaskStatus.class);
+        counters.forEach((status, counter) -> snapshot.put(status, Math.max(0, counter.sum())));
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        recount();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        changesSeen.incrementAndGet();
+        event.statusDeltas().forEach((status, delta) -> counters.get(status).add(delta));
+    }
+
+    private void scheduleRecount() {
+        if (recountScheduled.compareAndSet(false, true)) {
+            recountExecutor.schedule(this::recount, recountDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // One GROUP BY query, then the counters are replaced with the exact numbers
+    synchronized void recount() {
+        recountScheduled.set(false);
+        long changesBefore = changesSeen.get();
+
+        Map<TaskStatus, Long> fresh = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            fresh.put(status, 0L);
+        }
+        List<TaskStatusCount> rows = taskRepository.countByStatus();
+        for (TaskStatusCount row : rows) {
+            fresh.put(row.getStatus(), row.getTotal());
+        }
+
+        fresh.forEach((status, total) -> {
+            LongAdder counter = counters.get(status);
+            counter.reset();
+            counter.add(total);
+        });
+
+        // A write committed while we were counting may or may not be in the result - count again to be sure
+        if (changesSeen.get() != changesBefore) {
+            scheduleRecount();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recountExecutor.shutdownNow();
+    }
+}
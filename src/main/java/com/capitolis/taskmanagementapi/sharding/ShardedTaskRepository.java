@@ -0,0 +1,417 @@
+package com.capitolis.taskmanagementapi.sharding;
+
+import com.capitolis.taskmanagementapi.dto.RebalanceResult;
+import com.capitolis.taskmanagementapi.dto.ShardStats;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.LikePatterns;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Task storage spread over several databases (shards), for when one database can't hold every task.
+
+ * - Ids come from a SnowflakeIdGenerator, so they are unique across shards without asking any of them.
+ * - A task lives on exactly one shard, picked from its id (shardFor) - lookups, updates and deletes by id
+ *   touch only that shard.
+ * - Listings (all, by status, title search) ask every shard for its first limit rows after the cursor in parallel,
+ *   then merge the sorted answers by id (k-way merge). The global page is always inside those rows, so keyset
+ *   pagination works exactly like it does on the single database.
+
+ * shardFor uses jump consistent hashing: going from N to N + 1 shards moves only ~1/(N + 1) of the tasks, all of
+ * them onto the new shard (plain id % N would move almost every task).
+ * The active shard count is stored in shard 0, so a restart after a rebalance keeps the rebalanced placement.
+
+ * Shards are plain JDBC (JdbcTemplate + one Hikari pool each, not beans), with their own copy of the tasks table.
+ * Only active with app.sharding.enabled=true - the JPA TaskRepository and /api/tasks keep using the regular database.
+
+ * This is a separate store, not a layer under TaskService: its writes publish no TaskChangedEvent, so the task
+ * cache, status counters, search index, change feed, due-date scheduler and replicas never see sharded tasks.
+ * Input is checked here (title required, title and description within the column sizes) and rejected with
+ * BadRequestException, like TaskService does.
+ */
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardedTaskRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedTaskRepository.class);
+
+    // Rows per read while moving tasks between shards
+    static final int REBALANCE_BATCH_SIZE = 1000;
+
+    private static final String COLUMNS = "id, title, description, status, due_date, created_at, updated_at";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM tasks";
+    private static final String INSERT_SQL = "INSERT INTO tasks (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String MERGE_SQL = "MERGE INTO tasks (" + COLUMNS + ") KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Column sizes in createSchema - same as the JPA entity
+    static final int MAX_TITLE_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> {
+        Task task = new Task();
+        task.setId(rs.getLong("id"));
+        task.setTitle(rs.getString("title"));
+        task.setDescription(rs.getString("description"));
+        task.setStatus(TaskStatus.valueOf(rs.getString("status")));
+        task.setDueDate(rs.getObject("due_date", LocalDateTime.class));
+        task.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        task.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        return task;
+    };
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final List<JdbcTemplate> shards = new ArrayList<>(); // Every configured database, active or spare
+    private final SnowflakeIdGenerator idGenerator;
+    private final ExecutorService fanOut;
+
+    // Normal operations share it, a rebalance takes it exclusively - nothing reads or writes while tasks move
+    private final ReadWriteLock placementLock = new ReentrantReadWriteLock();
+    private volatile int shardCount;
+
+    @Autowired
+    public ShardedTaskRepository(@Value("${app.sharding.urls}") List<String> urls,
+                                 @Value("${app.sharding.shard-count}") int shardCount,
+                                 @Value("${app.sharding.worker-id:0}") int workerId,
+                                 @Value("${app.sharding.pool-size:5}") int poolSize,
+                                 @Value("${spring.datasource.username:sa}") String username,
+                                 @Value("${spring.datasource.password:}") String password) {
+        if (shardCount < 1 || shardCount > urls.size()) {
+            throw new IllegalArgumentException("app.sharding.shard-count must be between 1 and the number of app.sharding.urls ("
+                    + urls.size() + "): " + shardCount);
+        }
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setPoolName("task-shard-" + i);
+            HikariDataSource dataSource = new HikariDataSource(config);
+            dataSources.add(dataSource);
+            JdbcTemplate shard = new JdbcTemplate(dataSource);
+            createSchema(shard);
+            shards.add(shard);
+        }
+        this.shardCount = loadShardCount(shardCount);
+        this.idGenerator = new SnowflakeIdGenerator(workerId);
+
+        // Enough threads for every shard to use its whole pool - the fan-out never waits on its own executor
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanOut = Executors.newFixedThreadPool(urls.size() * poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "task-shard-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Jump consistent hash (Lamping & Veach) of the id - a shard index in [0, shardCount)
+    static int shardFor(long id, int shardCount) {
+        long key = id;
+        long bucket = -1;
+        long next = 0;
+        while (next < shardCount) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    // Insert a new task - the id is generated here, never taken from the caller
+    public Task save(Task task) {
+        validate(task);
+        LocalDateTime now = LocalDateTime.now();
+        task.setId(idGenerator.nextId());
+        task.setStatus(task.getStatus() == null ? TaskStatus.TODO : task.getStatus());
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+
+        placementLock.readLock().lock();
+        try {
+            shardOf(task.getId()).update(INSERT_SQL, row(task));
+            return task;
+        } finally {
+            placementLock.readLock().unlock();
+        }
+    }
+
+    public Optional<Task> findById(long id) {
+        placementLock.readLock().lock();
+        try {
+            return shardOf(id).query(SELECT + " WHERE id = ?", TASK_ROW_MAPPER, id).stream().findFirst();
+        } finally {
+            placementLock.readLock().unlock();
+        }
+    }
+
+    // Replace the editable fields - empty when the task doesn't exist. A missing status keeps the current one.
+    public Optional<Task> update(long id, Task details) {
+        validate(details);
+        placementLock.readLock().lock();
+        try {
+            JdbcTemplate shard = shardOf(id);
+            int updated = shard.update("UPDATE tasks SET title = ?, description = ?, status = COALESCE(?, status), due_date = ?, updated_at = ? WHERE id = ?",
+                    details.getTitle(),
+                    details.getDescription(),
+                    details.getStatus() == null ? null : details.getStatus().name(),
+                    details.getDueDate(),
+                    LocalDateTime.now(),
+                    id);
+            if (updated == 0) {
+                return Optional.empty();
+            }
+            return shard.query(SELECT + " WHERE id = ?", TASK_ROW_MAPPER, id).stream().findFirst();
+        } finally {
+            placementLock.readLock().unlock();
+        }
+    }
+
+    public boolean deleteById(long id) {
+        placementLock.readLock().lock();
+        try {
+            return shardOf(id).update("DELETE FROM tasks WHERE id = ?", id) > 0;
+        } finally {
+            placementLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scatter-gather keyset page: tasks with id > afterId, ordered by id, at most limit of them.
+     * status and keyword (case-insensitive title match) are optional filters (null = no filter).
+     */
+    public List<Task> findPage(TaskStatus status, String keyword, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT).append(" WHERE id > ?");
+        List<Object> args = new ArrayList<>();
+        args.add(afterId);
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (keyword != null) {
+            sql.append(" AND LOWER(title) LIKE ? ESCAPE '\\'");
+            args.add(LikePatterns.containingIgnoreCase(keyword));
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+
+        placementLock.readLock().lock();
+        try {
+            List<List<Task>> perShard = onEveryShard(shardCount,
+                    shard -> shard.query(sql.toString(), TASK_ROW_MAPPER, args.toArray()));
+            return mergeById(perShard, limit);
+        } finally {
+            placementLock.readLock().unlock();
+        }
+    }
+
+    public ShardStats stats() {
+        placementLock.readLock().lock();
+        try {
+            List<Long> counts = onEveryShard(shards.size(),
+                    shard -> shard.queryForObject("SELECT COUNT(*) FROM tasks", Long.class));
+            return new ShardStats(shardCount, counts);
+        } finally {
+            placementLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Move every task to where it belongs with targetShardCount shards, then switch to that count.
+     * Blocks all reads and writes while it runs - like an offline migration, meant for maintenance windows.
+
+     * Each batch is copied to its new shard before it is deleted from the old one. A failure in between leaves a
+     * task on two shards, never on none - run the rebalance again to finish (the copy is a MERGE, so that's safe).
+     */
+    public RebalanceResult rebalance(int targetShardCount) {
+        if (targetShardCount < 1 || targetShardCount > shards.size()) {
+            throw new BadRequestException("Shard count must be between 1 and " + shards.size() + ": " + targetShardCount);
+        }
+        placementLock.writeLock().lock();
+        try {
+            int from = shardCount;
+            long moved = 0;
+            for (int source = 0; source < Math.max(from, targetShardCount); source++) {
+                moved += moveMisplaced(source, targetShardCount);
+            }
+            shards.getFirst().update("MERGE INTO shard_meta (id, shard_count) KEY (id) VALUES (1, ?)", targetShardCount);
+            shardCount = targetShardCount;
+            log.info("Rebalanced tasks from {} to {} shards, {} tasks moved", from, targetShardCount, moved);
+            return new RebalanceResult(from, targetShardCount, moved);
+        } finally {
+            placementLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdownNow();
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    // Walks one shard in id order and moves the tasks that belong elsewhere under the target shard count
+    private long moveMisplaced(int source, int targetShardCount) {
+        JdbcTemplate sourceShard = shards.get(source);
+        long moved = 0;
+        long afterId = 0;
+        while (true) {
+            List<Task> batch = sourceShard.query(SELECT + " WHERE id > ? ORDER BY id LIMIT ?",
+                    TASK_ROW_MAPPER, afterId, REBALANCE_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return moved;
+            }
+            Map<Integer, List<Object[]>> rowsByTarget = new HashMap<>();
+            List<Object[]> movedIds = new ArrayList<>();
+            for (Task task : batch) {
+                int target = shardFor(task.getId(), targetShardCount);
+                if (target != source) {
+                    rowsByTarget.computeIfAbsent(target, shard -> new ArrayList<>()).add(row(task));
+                    movedIds.add(new Object[]{task.getId()});
+                }
+            }
+            rowsByTarget.forEach((target, rows) -> shards.get(target).batchUpdate(MERGE_SQL, rows));
+            if (!movedIds.isEmpty()) {
+                sourceShard.batchUpdate("DELETE FROM tasks WHERE id = ?", movedIds);
+            }
+            moved += movedIds.size();
+            afterId = batch.getLast().getId();
+        }
+    }
+
+    // Runs the query on shards 0..count-1 in parallel and returns the answers in shard order
+    private <T> List<T> onEveryShard(int count, Function<JdbcTemplate, T> query) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JdbcTemplate shard = shards.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> query.apply(shard), fanOut));
+        }
+        List<T> results = new ArrayList<>(count);
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause; // The DataAccessException from the failing shard, as if the query ran here
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    // k-way merge of lists that are each sorted by id - keeps the limit smallest ids overall
+    static List<Task> mergeById(List<List<Task>> sortedLists, int limit) {
+        int[] positions = new int[sortedLists.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                Comparator.comparingLong(list -> sortedLists.get(list).get(positions[list]).getId()));
+        for (int i = 0; i < sortedLists.size(); i++) {
+            if (!sortedLists.get(i).isEmpty()) {
+                heads.add(i);
+            }
+        }
+        List<Task> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int list = heads.poll();
+            merged.add(sortedLists.get(list).get(positions[list]++));
+            if (positions[list] < sortedLists.get(list).size()) {
+                heads.add(list); // Re-added with its next row as the head
+            }
+        }
+        return merged;
+    }
+
+    // A too-long value would otherwise fail in the database as a 500
+    private static void validate(Task task) {
+        if (task.getTitle() == null || task.getTitle().isBlank()) {
+            throw new BadRequestException("title is required");
+        }
+        if (task.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new BadRequestException("title is longer than " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (task.getDescription() != null && task.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            throw new BadRequestException("description is longer than " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+    }
+
+    private JdbcTemplate shardOf(long id) {
+        return shards.get(shardFor(id, shardCount));
+    }
+
+    // The stored count wins over the configured one - it's where the tasks actually are
+    private int loadShardCount(int configured) {
+        JdbcTemplate first = shards.getFirst();
+        List<Integer> stored = first.queryForList("SELECT shard_count FROM shard_meta WHERE id = 1", Integer.class);
+        if (stored.isEmpty()) {
+            first.update("INSERT INTO shard_meta (id, shard_count) VALUES (1, ?)", configured);
+            return configured;
+        }
+        int count = stored.getFirst();
+        if (count > shards.size()) {
+            throw new IllegalStateException("Tasks are spread over " + count + " shards but only " + shards.size()
+                    + " app.sharding.urls are configured");
+        }
+        if (count != configured) {
+            log.warn("Tasks were rebalanced to {} shards - ignoring app.sharding.shard-count={}", count, configured);
+        }
+        return count;
+    }
+
+    // Same columns as the JPA tasks table, plus the index the status listing needs
+    private static void createSchema(JdbcTemplate shard) {
+        shard.execute("""
+                CREATE TABLE IF NOT EXISTS tasks (
+                    id BIGINT PRIMARY KEY,
+                    title VARCHAR(255) NOT NULL,
+                    description VARCHAR(1000),
+                    status VARCHAR(32) NOT NULL,
+                    due_date TIMESTAMP,
+                    created_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP
+                )""");
+        shard.execute("CREATE INDEX IF NOT EXISTS idx_tasks_status_id ON tasks (status, id)");
+        shard.execute("CREATE TABLE IF NOT EXISTS shard_meta (id INT PRIMARY KEY, shard_count INT NOT NULL)");
+    }
+
+    private static Object[] row(Task task) {
+        return new Object[]{
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus().name(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        };
+    }
+}
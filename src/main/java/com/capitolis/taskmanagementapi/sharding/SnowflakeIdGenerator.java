@@ -0,0 +1,55 @@
+package com.capitolis.taskmanagementapi.sharding;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Globally unique, roughly time-ordered 53-bit ids without a shared sequence (Snowflake layout, narrowed).
+
+ * | 41 bits: ms since EPOCH_MS | 5 bits: worker id | 7 bits: sequence within the ms |
+
+ * 53 bits, so every id is a safe integer in JavaScript (Number.MAX_SAFE_INTEGER = 2^53 - 1) and survives JSON.parse
+ * in the browser unchanged - the ids stay plain JSON numbers, like the ones /api/tasks returns.
+ * Every app instance needs its own worker id (app.sharding.worker-id, 0-31) - then no two instances can hand out
+ * the same id, and no shard has to be asked for one. Ids grow with time, so "ORDER BY id" is still creation order
+ * across shards and keyset pagination keeps working.
+
+ * More than 128 ids in one millisecond, or a clock that steps back, borrow the next millisecond instead of
+ * waiting - ids stay unique and increasing, and the clock catches up on its own.
+ */
+public class SnowflakeIdGenerator {
+
+    static final long EPOCH_MS = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+    static final int WORKER_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public SnowflakeIdGenerator(int workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(int workerId, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("Worker id must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerId = workerId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        long timestamp = clock.getAsLong() - EPOCH_MS;
+        if (timestamp > lastTimestamp) {
+            lastTimestamp = timestamp;
+            sequence = 0;
+        } else if (++sequence > SEQUENCE_MASK) { // Same (or earlier) millisecond and the sequence ran out
+            lastTimestamp++;
+            sequence = 0;
+        }
+        return (lastTimestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -0,0 +1,113 @@
+package com.capitolis.taskmanagementapi.web;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of API requests being processed at the same time.
+
+ * With platform threads, Tomcat's worker pool (200 threads) was the limit. With virtual threads (profile "virtual")
+ * every connection gets its own thread, so 5,000 clients mean 5,000 requests all waiting for one of the Hikari
+ * connections and timing out together. This filter keeps a bounded number of requests inside the app.
+ * The rest wait briefly for a permit (fair, so first come first served) and get 503 + Retry-After if none frees up.
+ * An async request (the NDJSON export, CompletableFuture endpoints) keeps its permit until the async response
+ * completes, not just until the filter chain returns - otherwise long streams wouldn't count against the limit.
+
+ * Enabled with app.concurrency.limit-enabled=true (on in the "virtual" profile).
+ */
+@Component
+@ConditionalOnProperty(name = "app.concurrency.limit-enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyLimitFilter(@Value("${app.concurrency.max-in-flight:100}") int maxInFlight,
+                                  @Value("${app.concurrency.acquire-timeout-ms:2000}") long acquireTimeoutMs) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    // Only API calls are limited. The change feed is excluded because it holds its connection open without using the database
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/") || path.startsWith("/api/tasks/events");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server busy, retry later\"}");
+            return;
+        }
+        boolean releaseNow = true;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                releaseNow = false;
+            }
+        } finally {
+            if (releaseNow) {
+                permits.release();
+            }
+        }
+    }
+
+    // Requests currently holding a permit
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    // onComplete is also called after a timeout or an error, so releasing there alone is exactly once
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this); // Restarting async drops the listeners - stay registered
+        }
+    }
+}
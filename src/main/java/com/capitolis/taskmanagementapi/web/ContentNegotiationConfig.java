@@ -0,0 +1,52 @@
+package com.capitolis.taskmanagementapi.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Binary response formats, picked by the Accept header:
+ * - application/cbor             CBOR - binary JSON, same structure as the JSON responses
+ * - application/x-jackson-smile  Smile - binary JSON that back-references repeated field names and values
+ * - application/x-protobuf       protobuf, schema in /proto/task.proto
+ * The converters are appended AFTER the JSON one: a client sending Accept: * / * (curl, browsers) still gets JSON.
+ * gzip compression is configured with server.compression.* in application.properties.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    // configureMessageConvertersList sees the final list (defaults and Boot's converters included), so appending
+    // there keeps protobuf after JSON - addCustomConverter would put it first
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.configureMessageConvertersList(converters -> {
+            // Spring registers CBOR / Smile by itself when their Jackson modules are on the classpath - only add what's missing
+            if (converters.stream().noneMatch(JacksonCborHttpMessageConverter.class::isInstance)) {
+                converters.add(new JacksonCborHttpMessageConverter());
+            }
+            if (converters.stream().noneMatch(JacksonSmileHttpMessageConverter.class::isInstance)) {
+                converters.add(new JacksonSmileHttpMessageConverter());
+            }
+            converters.add(new TaskProtobufHttpMessageConverter());
+        });
+    }
+
+    // The same URL now has several representations - tell caches to keep them apart
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/tasks/**");
+    }
+}
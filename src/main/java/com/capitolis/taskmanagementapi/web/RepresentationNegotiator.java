@@ -0,0 +1,65 @@
+package com.capitolis.taskmanagementapi.web;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tells a controller which media type its response body will be written as, before it is written.
+ * Strong ETags need it: the JSON, CBOR, Smile and protobuf bytes of one task differ, so each gets its own tag.
+
+ * Same choice as Spring MVC makes when it writes the body: the client's Accept types in order of preference, and for
+ * each the first converter (in registration order) that can write the body type - so Accept: * / * gets JSON.
+ */
+@Component
+public class RepresentationNegotiator {
+
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter; // Lazy - it's built after the controllers
+    private final Map<Class<?>, List<MediaType>> producibleTypes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RepresentationNegotiator(ContentNegotiationManager contentNegotiationManager,
+                                    ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    // The media type a bodyType response will have - JSON when nothing matches (Spring then answers 406 by itself)
+    public MediaType negotiate(NativeWebRequest request, Class<?> bodyType) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> producible = producibleTypes.computeIfAbsent(bodyType, this::findProducibleTypes);
+        for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+            for (MediaType candidate : producible) {
+                if (accepted.isCompatibleWith(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    // Concrete types only: application/*+json can't be the type of a written body
+    private List<MediaType> findProducibleTypes(Class<?> bodyType) {
+        List<MediaType> types = new ArrayList<>();
+        for (HttpMessageConverter<?> converter : handlerAdapter.getObject().getMessageConverters()) {
+            if (converter.canWrite(bodyType, null)) {
+                converter.getSupportedMediaTypes(bodyType).stream()
+                        .filter(MediaType::isConcrete)
+                        .filter(type -> !types.contains(type))
+                        .forEach(types::add);
+            }
+        }
+        return types;
+    }
+}
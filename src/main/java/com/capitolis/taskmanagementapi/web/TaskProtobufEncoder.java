@@ -0,0 +1,267 @@
+package com.capitolis.taskmanagementapi.web;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.SearchPage;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes tasks in the protobuf wire format described by static/proto/task.proto (served at /proto/task.proto).
+ * Encoded by hand with CodedOutputStream instead of protoc-generated classes, so the API keeps returning its own
+ * Task / CursorPage types and there is no code generation step in the build. Field numbers must match the .proto file.
+
+ * Like any proto3 encoder, fields holding a default value (0, "", false, null) are not written at all.
+ * Each nested message is prefixed with its size, which is computed up front (no temporary buffers).
+ */
+public final class TaskProtobufEncoder {
+
+    // message Task
+    static final int TASK_ID = 1;
+    static final int TASK_TITLE = 2;
+    static final int TASK_DESCRIPTION = 3;
+    static final int TASK_STATUS = 4;
+    static final int TASK_DUE_DATE = 5;
+    static final int TASK_CREATED_AT = 6;
+    static final int TASK_UPDATED_AT = 7;
+
+    // message TaskSummary
+    static final int SUMMARY_ID = 1;
+    static final int SUMMARY_TITLE = 2;
+    static final int SUMMARY_STATUS = 3;
+
+    // message TaskPage
+    static final int PAGE_TASKS = 1;
+    static final int PAGE_SUMMARIES = 2;
+    static final int PAGE_NEXT_CURSOR = 3;
+    static final int PAGE_HAS_MORE = 4;
+
+    // message SearchPage / SearchResult
+    static final int SEARCH_RESULTS = 1;
+    static final int SEARCH_TOTAL = 2;
+    static final int SEARCH_OFFSET = 3;
+    static final int SEARCH_TRUNCATED = 4;
+    static final int RESULT_TASK = 1;
+    static final int RESULT_SCORE = 2;
+
+    private TaskProtobufEncoder() {
+    }
+
+    static boolean supports(Class<?> type) {
+        return Task.class.isAssignableFrom(type) || TaskSummary.class.isAssignableFrom(type)
+                || CursorPage.class.isAssignableFrom(type) || SearchPage.class.isAssignableFrom(type);
+    }
+
+    public static byte[] encode(Object value) throws IOException {
+        byte[] bytes = new byte[size(value)];
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        write(value, out);
+        out.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    // Writes a top-level message: Task, TaskSummary, TaskPage (CursorPage) or SearchPage
+    public static void write(Object value, CodedOutputStream out) throws IOException {
+        switch (value) {
+            case Task task -> writeTaskFields(task, out);
+            case TaskSummary summary -> writeSummaryFields(summary, out);
+            case CursorPage<?> page -> writePageFields(page, out);
+            case SearchPage page -> writeSearchFields(page, out);
+            default -> throw new IllegalArgumentException("No protobuf encoding for " + value.getClass().getName());
+        }
+    }
+
+    static int size(Object value) {
+        return switch (value) {
+            case Task task -> taskSize(task);
+            case TaskSummary summary -> summarySize(summary);
+            case CursorPage<?> page -> pageSize(page);
+            case SearchPage page -> searchSize(page);
+            default -> throw new IllegalArgumentException("No protobuf encoding for " + value.getClass().getName());
+        };
+    }
+
+    // ==================== Task ====================
+
+    private static void writeTaskFields(Task task, CodedOutputStream out) throws IOException {
+        writeInt64(out, TASK_ID, task.getId());
+        writeString(out, TASK_TITLE, task.getTitle());
+        writeString(out, TASK_DESCRIPTION, task.getDescription());
+        writeStatus(out, TASK_STATUS, task.getStatus());
+        writeString(out, TASK_DUE_DATE, format(task.getDueDate()));
+        writeString(out, TASK_CREATED_AT, format(task.getCreatedAt()));
+        writeString(out, TASK_UPDATED_AT, format(task.getUpdatedAt()));
+    }
+
+    private static int taskSize(Task task) {
+        return int64Size(TASK_ID, task.getId())
+                + stringSize(TASK_TITLE, task.getTitle())
+                + stringSize(TASK_DESCRIPTION, task.getDescription())
+                + statusSize(TASK_STATUS, task.getStatus())
+                + stringSize(TASK_DUE_DATE, format(task.getDueDate()))
+                + stringSize(TASK_CREATED_AT, format(task.getCreatedAt()))
+                + stringSize(TASK_UPDATED_AT, format(task.getUpdatedAt()));
+    }
+
+    // ==================== TaskSummary ====================
+
+    private static void writeSummaryFields(TaskSummary summary, CodedOutputStream out) throws IOException {
+        writeInt64(out, SUMMARY_ID, summary.id());
+        writeString(out, SUMMARY_TITLE, summary.title());
+        writeStatus(out, SUMMARY_STATUS, summary.status());
+    }
+
+    private static int summarySize(TaskSummary summary) {
+        return int64Size(SUMMARY_ID, summary.id())
+                + stringSize(SUMMARY_TITLE, summary.title())
+                + statusSize(SUMMARY_STATUS, summary.status());
+    }
+
+    // ==================== TaskPage ====================
+
+    private static void writePageFields(CursorPage<?> page, CodedOutputStream out) throws IOException {
+        for (Object item : page.items()) {
+            switch (item) {
+                case Task task -> writeMessage(out, PAGE_TASKS, taskSize(task), () -> writeTaskFields(task, out));
+                case TaskSummary summary -> writeMessage(out, PAGE_SUMMARIES, summarySize(summary), () -> writeSummaryFields(summary, out));
+                default -> throw new IllegalArgumentException("No protobuf encoding for page item " + item.getClass().getName());
+            }
+        }
+        writeString(out, PAGE_NEXT_CURSOR, page.nextCursor());
+        if (page.hasMore()) {
+            out.writeBool(PAGE_HAS_MORE, true);
+        }
+    }
+
+    private static int pageSize(CursorPage<?> page) {
+        int size = 0;
+        for (Object item : page.items()) {
+            size += switch (item) {
+                case Task task -> messageSize(PAGE_TASKS, taskSize(task));
+                case TaskSummary summary -> messageSize(PAGE_SUMMARIES, summarySize(summary));
+                default -> throw new IllegalArgumentException("No protobuf encoding for page item " + item.getClass().getName());
+            };
+        }
+        size += stringSize(PAGE_NEXT_CURSOR, page.nextCursor());
+        if (page.hasMore()) {
+            size += CodedOutputStream.computeBoolSize(PAGE_HAS_MORE, true);
+        }
+        return size;
+    }
+
+    // ==================== SearchPage ====================
+
+    private static void writeSearchFields(SearchPage page, CodedOutputStream out) throws IOException {
+        for (SearchPage.Result result : page.items()) {
+            writeMessage(out, SEARCH_RESULTS, resultSize(result), () -> {
+                writeMessage(out, RESULT_TASK, taskSize(result.task()), () -> writeTaskFields(result.task(), out));
+                if (result.score() != 0) {
+                    out.writeDouble(RESULT_SCORE, result.score());
+                }
+            });
+        }
+        if (page.total() != 0) {
+            out.writeInt32(SEARCH_TOTAL, page.total());
+        }
+        if (page.offset() != 0) {
+            out.writeInt32(SEARCH_OFFSET, page.offset());
+        }
+        if (page.truncated()) {
+            out.writeBool(SEARCH_TRUNCATED, true);
+        }
+    }
+
+    private static int searchSize(SearchPage page) {
+        int size = 0;
+        for (SearchPage.Result result : page.items()) {
+            size += messageSize(SEARCH_RESULTS, resultSize(result));
+        }
+        if (page.total() != 0) {
+            size += CodedOutputStream.computeInt32Size(SEARCH_TOTAL, page.total());
+        }
+        if (page.offset() != 0) {
+            size += CodedOutputStream.computeInt32Size(SEARCH_OFFSET, page.offset());
+        }
+        if (page.truncated()) {
+            size += CodedOutputStream.computeBoolSize(SEARCH_TRUNCATED, true);
+        }
+        return size;
+    }
+
+    private static int resultSize(SearchPage.Result result) {
+        int size = messageSize(RESULT_TASK, taskSize(result.task()));
+        if (result.score() != 0) {
+            size += CodedOutputStream.computeDoubleSize(RESULT_SCORE, result.score());
+        }
+        return size;
+    }
+
+    // ==================== Field helpers ====================
+
+    private interface FieldWriter {
+        void write() throws IOException;
+    }
+
+    // Embedded message = tag + length + fields
+    private static void writeMessage(CodedOutputStream out, int field, int size, FieldWriter fields) throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+        fields.write();
+    }
+
+    private static int messageSize(int field, int size) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, Long value) throws IOException {
+        if (value != null && value != 0) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static int int64Size(int field, Long value) {
+        return value != null && value != 0 ? CodedOutputStream.computeInt64Size(field, value) : 0;
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null && !value.isEmpty() ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    // enum TaskStatus { TASK_STATUS_UNSPECIFIED = 0; TODO = 1; IN_PROGRESS = 2; DONE = 3; }
+    private static void writeStatus(CodedOutputStream out, int field, TaskStatus status) throws IOException {
+        if (status != null) {
+            out.writeEnum(field, statusNumber(status));
+        }
+    }
+
+    private static int statusSize(int field, TaskStatus status) {
+        return status != null ? CodedOutputStream.computeEnumSize(field, statusNumber(status)) : 0;
+    }
+
+    // The numbers in task.proto - never derived from the enum order, so reordering TaskStatus can't change the wire format.
+    // No default branch: a new TaskStatus constant doesn't compile until it has its own number here and in task.proto.
+    static int statusNumber(TaskStatus status) {
+        return switch (status) {
+            case TODO -> 1;
+            case IN_PROGRESS -> 2;
+            case DONE -> 3;
+        };
+    }
+
+    // Same ISO-8601 text as the JSON responses, e.g. "2026-02-20T10:00:00"
+    private static String format(LocalDateTime value) {
+        return value == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+}
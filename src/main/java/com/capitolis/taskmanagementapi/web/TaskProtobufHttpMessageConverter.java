@@ -0,0 +1,51 @@
+package com.capitolis.taskmanagementapi.web;
+
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes Task, TaskSummary, CursorPage and SearchPage responses as protobuf when the client sends
+ * Accept: application/x-protobuf. Write-only - requests are still sent as JSON.
+ */
+public class TaskProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public TaskProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskProtobufEncoder.supports(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported, send JSON", inputMessage);
+    }
+
+    // The size is known up front, so Content-Length is set and the body is written in one pass
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        return (long) TaskProtobufEncoder.size(value);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+        TaskProtobufEncoder.write(value, out);
+        out.flush();
+    }
+}
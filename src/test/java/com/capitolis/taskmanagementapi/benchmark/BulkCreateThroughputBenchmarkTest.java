@@ -0,0 +1,112 @@
+package com.capitolis.taskmanagementapi.benchmark;
+
+import com.capitolis.taskmanagementapi.dto.BulkCreateResponse;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput comparison: N x createTask (one INSERT + one transaction each) vs one createTasks call (batched INSERTs).
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "logging.level.org.springframework.web=INFO",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Bulk create throughput benchmark")
+class BulkCreateThroughputBenchmarkTest {
+
+    private static final int TASK_COUNT = 5_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Batched bulk create should beat single-row create")
+    void compareSingleRowAndBulkCreate() {
+        // Warm up both paths so JIT and connection pool are not part of the measurement
+        for (Task task : newTasks(500)) {
+            taskService.createTask(task);
+        }
+        taskService.createTasks(newTasks(500));
+        taskRepository.deleteAllInBatch();
+        statistics.clear();
+
+        // Single-row creation - one transaction and one INSERT per task
+        long start = System.nanoTime();
+        for (Task task : newTasks(TASK_COUNT)) {
+            taskService.createTask(task);
+        }
+        long singleNanos = System.nanoTime() - start;
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        taskRepository.deleteAllInBatch();
+        statistics.clear();
+
+        // Bulk creation - one transaction, INSERTs sent in JDBC batches
+        start = System.nanoTime();
+        BulkCreateResponse response = taskService.createTasks(newTasks(TASK_COUNT));
+        long bulkNanos = System.nanoTime() - start;
+        long bulkStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("%nBulk create benchmark (%d tasks)%n", TASK_COUNT);
+        System.out.printf("  single-row : %8.1f ms  %10.0f tasks/s  %6d statements%n",
+                singleNanos / 1e6, TASK_COUNT / (singleNanos / 1e9), singleStatements);
+        System.out.printf("  bulk       : %8.1f ms  %10.0f tasks/s  %6d statements%n",
+                bulkNanos / 1e6, TASK_COUNT / (bulkNanos / 1e9), bulkStatements);
+
+        assertThat(response.created()).isEqualTo(TASK_COUNT);
+        assertThat(taskRepository.count()).isEqualTo(TASK_COUNT);
+        // Batched INSERTs reuse one prepared statement per batch, and the pooled sequence hands out 50 ids per call
+        assertThat(bulkStatements).isLessThan(TASK_COUNT / 10);
+        assertThat(bulkStatements).isLessThan(singleStatements);
+    }
+
+    private List<Task> newTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Created by the bulk create benchmark");
+            task.setStatus(TaskStatus.TODO);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
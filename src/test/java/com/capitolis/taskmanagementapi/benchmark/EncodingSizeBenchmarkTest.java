@@ -0,0 +1,101 @@
+package com.capitolis.taskmanagementapi.benchmark;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.web.TaskProtobufEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size of a 500-task page (full and ?view=summary) in each response format, raw and gzipped.
+ * Encode times are measured by the JMH TaskEncodingBenchmark.
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("Response encoding size benchmark")
+class EncodingSizeBenchmarkTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+    private final ObjectMapper cbor = CBORMapper.builder().build();
+    private final ObjectMapper smile = SmileMapper.builder().build();
+
+    @Test
+    @DisplayName("Binary formats should be smaller than JSON")
+    void compareEncodedSizes() throws IOException {
+        List<Task> tasks = sampleTasks();
+        CursorPage<Task> full = new CursorPage<>(tasks, "MTIz", true);
+        CursorPage<TaskSummary> summary = new CursorPage<>(
+                tasks.stream().map(task -> new TaskSummary(task.getId(), task.getTitle(), task.getStatus())).toList(), "MTIz", true);
+
+        System.out.printf("%nResponse size for a page of %d tasks (bytes)%n", PAGE_SIZE);
+        System.out.printf("  %-10s %10s %10s %12s %12s%n", "format", "full", "full gzip", "summary", "summary gzip");
+
+        Map<String, byte[]> fullSizes = encodeAll(full);
+        Map<String, byte[]> summarySizes = encodeAll(summary);
+        for (String format : fullSizes.keySet()) {
+            System.out.printf("  %-10s %10d %10d %12d %12d%n", format,
+                    fullSizes.get(format).length, gzip(fullSizes.get(format)).length,
+                    summarySizes.get(format).length, gzip(summarySizes.get(format)).length);
+        }
+
+        int jsonSize = fullSizes.get("json").length;
+        assertThat(fullSizes.get("cbor").length).isLessThan(jsonSize);
+        assertThat(fullSizes.get("smile").length).isLessThan(jsonSize);
+        assertThat(fullSizes.get("protobuf").length).isLessThan(jsonSize);
+        assertThat(summarySizes.get("json").length).isLessThan(jsonSize);
+    }
+
+    private Map<String, byte[]> encodeAll(Object page) throws IOException {
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        encoded.put("json", json.writeValueAsBytes(page));
+        encoded.put("cbor", cbor.writeValueAsBytes(page));
+        encoded.put("smile", smile.writeValueAsBytes(page));
+        encoded.put("protobuf", TaskProtobufEncoder.encode(page));
+        return encoded;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<Task> sampleTasks() {
+        LocalDateTime now = LocalDateTime.of(2026, 2, 15, 10, 30);
+        List<Task> tasks = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Task task = new Task();
+            task.setId(1_000_000L + i);
+            task.setTitle("Review report " + i);
+            task.setDescription("Task number " + i + ". Check the numbers, update the report and send it to the team before the review meeting.");
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setDueDate(now.plusDays(i % 30));
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now.plusHours(i % 12));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
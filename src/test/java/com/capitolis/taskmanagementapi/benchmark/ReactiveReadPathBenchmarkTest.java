@@ -0,0 +1,239 @@
+package com.capitolis.taskmanagementapi.benchmark;
+
+import com.capitolis.taskmanagementapi.TaskManagementApiApplication;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.reactive.ReactiveTaskServer;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Blocking read path (Tomcat + JPA TaskRepository) vs the reactive one (Netty + WebFlux + R2DBC), in one application.
+
+ * 1. Page latency: closed-loop clients fetch GET .../tasks?size=50 for a fixed time - p50 / p99 / max and the bytes
+ *    allocated per request (whole JVM, so the in-process HTTP client is included - equally for both paths).
+ * 2. Slow consumers: many clients stream every task (GET /api/tasks/export vs GET /api/reactive/tasks/stream) and read
+ *    slowly. Peak heap and peak live threads show what a slow client costs the server: the blocking export holds a
+ *    Tomcat thread and a JDBC connection for the whole stream, the reactive one holds one chunk of rows.
+ * Tune with -Dbenchmark.reactive.clients=..., -Dbenchmark.reactive.slow-clients=..., -Dbenchmark.reactive.seconds=...
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("Reactive vs blocking read path benchmark")
+class ReactiveReadPathBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.reactive.clients", 64);
+    private static final int SLOW_CLIENTS = Integer.getInteger("benchmark.reactive.slow-clients", 50);
+    private static final int SECONDS = Integer.getInteger("benchmark.reactive.seconds", 10);
+    private static final int TASK_COUNT = 20_000;
+    private static final int SLOW_READ_BYTES = 8 * 1024; // A slow client reads 8 KB, then pauses
+    private static final long SLOW_READ_PAUSE_MS = 5;
+
+    private static ConfigurableApplicationContext context;
+    private static String blockingBase;
+    private static String reactiveBase;
+
+    @BeforeAll
+    static void startApplication() {
+        context = new SpringApplicationBuilder(TaskManagementApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:reactivebench",
+                        "app.reactive.enabled=true",
+                        "app.reactive.port=0",
+                        "app.reactive.url=r2dbc:h2:mem:///reactivebench",
+                        "app.browser.auto-open=false",
+                        "app.console.task-manager.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                        "logging.level.org.springframework.web=INFO")
+                .run();
+        seed(context.getBean(TaskService.class));
+        blockingBase = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port") + "/api/tasks";
+        reactiveBase = "http://localhost:" + context.getBean(ReactiveTaskServer.class).getPort() + "/api/reactive/tasks";
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Page latency and allocation per request")
+    void comparePageLatency() throws Exception {
+        pageLoad(blockingBase, 3); // Warm up both paths (JIT, pools)
+        pageLoad(reactiveBase, 3);
+        PageResult blocking = pageLoad(blockingBase, SECONDS);
+        PageResult reactive = pageLoad(reactiveBase, SECONDS);
+
+        System.out.printf("%nPage latency, GET ?size=50 (%d clients, %d s)%n", CLIENTS, SECONDS);
+        System.out.printf("  %-9s %10s %9s %9s %9s %12s %8s%n", "path", "req/s", "p50 ms", "p99 ms", "max ms", "KB alloc/req", "errors");
+        for (PageResult result : List.of(blocking, reactive)) {
+            Histogram histogram = result.latencies();
+            System.out.printf("  %-9s %10.0f %9.2f %9.2f %9.2f %12.1f %8d%n", result.path(),
+                    (double) histogram.getTotalCount() / SECONDS,
+                    histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(99) / 1e6,
+                    histogram.getMaxValue() / 1e6,
+                    (double) result.allocatedBytes() / Math.max(1, histogram.getTotalCount()) / 1024, result.errors());
+        }
+
+        assertThat(blocking.errors()).isZero();
+        assertThat(reactive.errors()).isZero();
+        assertThat(reactive.latencies().getTotalCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Slow consumers streaming the whole table")
+    void compareSlowConsumers() throws Exception {
+        StreamResult blocking = slowStreams("blocking", blockingBase + "/export");
+        StreamResult reactive = slowStreams("reactive", reactiveBase + "/stream");
+
+        System.out.printf("%nSlow consumers, %d clients each streaming %d tasks (%d KB reads, %d ms pauses)%n",
+                SLOW_CLIENTS, TASK_COUNT, SLOW_READ_BYTES / 1024, SLOW_READ_PAUSE_MS);
+        System.out.printf("  %-9s %10s %14s %14s %12s%n", "path", "seconds", "peak heap MB", "peak threads", "MB read");
+        for (StreamResult result : List.of(blocking, reactive)) {
+            System.out.printf("  %-9s %10.1f %14.1f %14d %12.1f%n", result.path(), result.seconds(),
+                    result.peakHeapBytes() / 1024.0 / 1024, result.peakThreads(), result.bytesRead() / 1024.0 / 1024);
+        }
+
+        assertThat(blocking.errors()).isZero();
+        assertThat(reactive.errors()).isZero();
+        assertThat(reactive.bytesRead()).isPositive();
+    }
+
+    private PageResult pageLoad(String base, int seconds) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.SECONDS.toNanos(30), 3);
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(base + "?size=50")).timeout(Duration.ofSeconds(30)).build();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = http.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+                            if (status == 200) {
+                                latencies.recordValue(System.nanoTime() - start);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long allocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+        return new PageResult(base.contains("reactive") ? "reactive" : "blocking", latencies, allocated, errors.get());
+    }
+
+    private StreamResult slowStreams(String path, String url) throws Exception {
+        System.gc(); // Start both runs from a similar heap
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicLong peakThreads = new AtomicLong();
+        AtomicLong bytesRead = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+            peakThreads.accumulateAndGet(threadBean.getThreadCount(), Math::max);
+        }, 0, 50, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            List<Future<?>> futures = new ArrayList<>(SLOW_CLIENTS);
+            for (int i = 0; i < SLOW_CLIENTS; i++) {
+                futures.add(clients.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(120)).build();
+                    try {
+                        HttpResponse<InputStream> response = http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            return;
+                        }
+                        try (InputStream body = response.body()) {
+                            byte[] buffer = new byte[SLOW_READ_BYTES];
+                            int read;
+                            while ((read = body.readNBytes(buffer, 0, buffer.length)) > 0) {
+                                bytesRead.addAndGet(read);
+                                Thread.sleep(SLOW_READ_PAUSE_MS);
+                            }
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new StreamResult(path, seconds, peakHeap.get(), (int) peakThreads.get(), bytesRead.get(), errors.get());
+    }
+
+    private static void seed(TaskService taskService) {
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Created by the reactive read path benchmark - a description of about a hundred characters.");
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            tasks.add(task);
+        }
+        taskService.createTasks(tasks);
+    }
+
+    private record PageResult(String path, Histogram latencies, long allocatedBytes, long errors) {
+    }
+
+    private record StreamResult(String path, double seconds, long peakHeapBytes, int peakThreads, long bytesRead, long errors) {
+    }
+}
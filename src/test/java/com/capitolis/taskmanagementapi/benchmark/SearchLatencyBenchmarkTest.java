@@ -0,0 +1,131 @@
+package com.capitolis.taskmanagementapi.benchmark;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import com.capitolis.taskmanagementapi.search.TaskSearchService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency at 1M tasks: the in-memory index (GET /search/fulltext) vs the LIKE query behind GET /search.
+ * Rows are inserted with plain JDBC batches to keep seeding fast. Size can be changed with -Dbenchmark.search.tasks=...
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+        "logging.level.org.springframework.web=INFO"
+})
+@DisplayName("Search latency benchmark")
+class SearchLatencyBenchmarkTest {
+
+    private static final int TASK_COUNT = Integer.getInteger("benchmark.search.tasks", 1_000_000);
+    private static final int RUNS = 20;
+
+    // Common words appear in many tasks, rare words in very few - LIKE is slowest for rare words (it scans everything)
+    private static final String[] COMMON = {"fix", "update", "review", "deploy", "write", "test", "meeting", "report"};
+    private static final String[] RARE = {"kubernetes", "invoice", "migration", "onboarding", "quarterly", "latency"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @BeforeAll
+    void seed() {
+        taskRepository.deleteAllInBatch();
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(10_000);
+
+        for (int i = 1; i <= TASK_COUNT; i++) {
+            String rare = random.nextInt(1000) == 0 ? " " + RARE[random.nextInt(RARE.length)] : "";
+            String title = COMMON[random.nextInt(COMMON.length)] + " " + COMMON[random.nextInt(COMMON.length)] + " item " + i + rare;
+            String description = "Details for " + COMMON[random.nextInt(COMMON.length)] + " number " + (i % 997);
+            batch.add(new Object[]{(long) i, title, description, "TODO", now, now});
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+        taskSearchService.rebuildIndex();
+    }
+
+    // The in-memory database is shared by every test context in the JVM - don't leave a million rows behind
+    @AfterAll
+    void cleanUp() {
+        taskRepository.deleteAllInBatch();
+        taskSearchService.rebuildIndex();
+    }
+
+    @Test
+    @DisplayName("Index search should be faster than LIKE for selective terms")
+    void compareIndexAndLike() {
+        System.out.printf("%nSearch latency benchmark (%d tasks, median of %d runs, first page of 20)%n", TASK_COUNT, RUNS);
+        System.out.printf("  %-14s %12s %12s%n", "keyword", "LIKE (ms)", "index (ms)");
+
+        double likeTotal = 0;
+        double indexTotal = 0;
+        for (String keyword : concat(RARE, new String[]{"review", "deploy"})) {
+            double like = medianMillis(() -> taskRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(keyword, 0L, Limit.of(21)));
+            double indexed = medianMillis(() -> taskSearchService.search(keyword, 0, 20));
+            System.out.printf("  %-14s %12.2f %12.2f%n", keyword, like, indexed);
+            likeTotal += like;
+            indexTotal += indexed;
+        }
+
+        assertThat(taskSearchService.indexedTasks()).isEqualTo(TASK_COUNT);
+        assertThat(indexTotal).isLessThan(likeTotal);
+    }
+
+    private double medianMillis(Supplier<?> search) {
+        search.get(); // warm up
+        double[] samples = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            samples[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2];
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tasks (id, title, description, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    private static String[] concat(String[] first, String[] second) {
+        String[] all = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+}
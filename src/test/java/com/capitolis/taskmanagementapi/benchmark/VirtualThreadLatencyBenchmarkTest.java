@@ -0,0 +1,210 @@
+package com.capitolis.taskmanagementapi.benchmark;
+
+import com.capitolis.taskmanagementapi.TaskManagementApiApplication;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * p99 latency and throughput at 2,000 concurrent clients: platform-thread Tomcat vs the "virtual" profile
+ * (virtual threads + fixed Hikari pool + ConcurrencyLimitFilter).
+ * Each mode boots its own application on a random port with its own in-memory database, then every client loops
+ * over GET /api/tasks/{id} and GET /api/tasks/status/TODO (cache misses included) for the measurement window.
+ * Clients are closed-loop (next request after the previous response), so this compares the two modes under the same
+ * load rather than measuring absolute latency - see the load generator for open-loop numbers.
+ * A 503 from the concurrency limiter is a shed request, not a served one: the table shows the share of requests
+ * shed, and "p99 all" is the p99 over every response including the 503s (time spent waiting for a permit included),
+ * so shedding can't make a mode look faster than it is.
+ * Tune with -Dbenchmark.threads.clients=... and -Dbenchmark.threads.seconds=...
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("Virtual vs platform thread latency benchmark")
+class VirtualThreadLatencyBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.threads.clients", 2_000);
+    private static final int SECONDS = Integer.getInteger("benchmark.threads.seconds", 15);
+    private static final int WARMUP_SECONDS = 5;
+    private static final int TASK_COUNT = 2_000;
+
+    @Test
+    @DisplayName("Both modes should serve 2k concurrent clients without errors")
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Result platform = run("platform", new String[0]);
+        Result virtual = run("virtual", new String[]{"virtual"});
+
+        System.out.printf("%nThread mode benchmark (%d clients, %d s)%n", CLIENTS, SECONDS);
+        System.out.printf("  %-9s %10s %9s %9s %9s %9s %8s %8s%n",
+                "mode", "req/s", "p50 ms", "p99 ms", "max ms", "p99 all", "503s", "errors");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("  %-9s %10.0f %9.2f %9.2f %9.2f %9.2f %7.1f%% %8d%n", result.mode, result.throughput(),
+                    percentile(result.servedNanos, 50), percentile(result.servedNanos, 99), percentile(result.servedNanos, 100),
+                    percentile(result.allNanos, 99), result.rejectedPercent(), result.errors);
+        }
+
+        assertThat(platform.errors).isZero();
+        assertThat(virtual.errors).isZero();
+        assertThat(platform.servedNanos.length).isPositive();
+        assertThat(virtual.servedNanos.length).isPositive();
+    }
+
+    private Result run(String mode, String[] profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementApiApplication.class)
+                .profiles(profiles)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:threadbench-" + mode,
+                        "app.browser.auto-open=false",
+                        "app.console.task-manager.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                        "logging.level.org.springframework.web=INFO")
+                .run()) {
+            seed(context.getBean(TaskService.class));
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+
+            load(mode, port, WARMUP_SECONDS); // JIT, connection pools and caches warm up
+            return load(mode, port, SECONDS);
+        }
+    }
+
+    private Result load(String mode, int port, int seconds) throws Exception {
+        String base = "http://localhost:" + port + "/api/tasks";
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .executor(clients)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+            List<Future<ClientStats>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clients.submit(() -> client(http, base, deadline)));
+            }
+
+            ClientStats total = new ClientStats();
+            for (Future<ClientStats> future : futures) {
+                total.merge(future.get());
+            }
+            return new Result(mode, total.served.sorted(), total.all.sorted(), total.errors, seconds);
+        }
+    }
+
+    private ClientStats client(HttpClient http, String base, long deadline) {
+        ClientStats stats = new ClientStats();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            String path = random.nextBoolean() ? "/" + (1 + random.nextInt(TASK_COUNT)) : "/status/TODO?size=20";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + path)).timeout(Duration.ofSeconds(30)).build();
+            long start = System.nanoTime();
+            try {
+                int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                long nanos = System.nanoTime() - start;
+                if (status == 503) {
+                    stats.all.record(nanos); // The concurrency limiter shedding load - not a failure, but not served either
+                } else if (status >= 400) {
+                    stats.errors++;
+                } else {
+                    stats.served.record(nanos);
+                    stats.all.record(nanos);
+                }
+            } catch (Exception e) {
+                stats.errors++;
+            }
+        }
+        return stats;
+    }
+
+    private void seed(TaskService taskService) {
+        List<Task> tasks = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Created by the thread mode benchmark");
+            task.setStatus(i % 3 == 0 ? TaskStatus.TODO : TaskStatus.IN_PROGRESS);
+            tasks.add(task);
+        }
+        taskService.createTasks(tasks);
+    }
+
+    // p-th percentile of sorted latencies, in ms
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    // Latencies of one client: served requests, and every answered request (served + 503)
+    private static final class ClientStats {
+        final Samples served = new Samples();
+        final Samples all = new Samples();
+        long errors;
+
+        void merge(ClientStats other) {
+            served.merge(other.served);
+            all.merge(other.all);
+            errors += other.errors;
+        }
+    }
+
+    // A growable long[] avoids boxing millions of samples
+    private static final class Samples {
+        long[] nanos = new long[1024];
+        int count;
+
+        void record(long value) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+        }
+
+        void merge(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    private record Result(String mode, long[] servedNanos, long[] allNanos, long errors, int seconds) {
+
+        double throughput() {
+            return (double) servedNanos.length / seconds;
+        }
+
+        double rejectedPercent() {
+            return allNanos.length == 0 ? 0 : 100.0 * (allNanos.length - servedNanos.length) / allNanos.length;
+        }
+    }
+}
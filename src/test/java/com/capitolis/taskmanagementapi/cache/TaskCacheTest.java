@@ -0,0 +1,232 @@
+package com.capitolis.taskmanagementapi.cache;
+
+import com.capitolis.taskmanagementapi.dto.BulkCreateResult;
+import com.capitolis.taskmanagementapi.dto.BulkStatusUpdateRequest;
+import com.capitolis.taskmanagementapi.metrics.StatementCountingInspector;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The "tasks" cache against the embedded database: hits, what each kind of write does to the cached entry,
+ * and the /api/tasks/cache/stats endpoint.
+ */
+@SpringBootTest(properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:taskcachetest"
+})
+@DisplayName("Task cache tests")
+class TaskCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(TaskCacheConfig.TASKS_CACHE);
+        cache.clear();
+    }
+
+    @Test
+    @DisplayName("A second getTaskById should be served from the cache without SQL")
+    void getTaskById_HitRunsNoStatement() {
+        // Arrange
+        Long id = createTask("Hit").getId();
+        cache.clear();
+        taskService.getTaskById(id);
+
+        // Act
+        StatementCountingInspector.reset();
+        Task task = taskService.getTaskById(id).orElseThrow();
+
+        // Assert
+        assertThat(task.getTitle()).isEqualTo("Hit");
+        assertThat(StatementCountingInspector.current()).isZero();
+    }
+
+    @Test
+    @DisplayName("Each caller should get its own copy - changing it must not change the cached task")
+    void getTaskById_ReturnsCopies() {
+        // Arrange
+        Long id = createTask("Original").getId();
+        Task first = taskService.getTaskById(id).orElseThrow();
+
+        // Act
+        first.setTitle("Changed by a caller");
+
+        // Assert
+        Task second = taskService.getTaskById(id).orElseThrow();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTitle()).isEqualTo("Original");
+        assertThat(cache.get(id, CachedTask.class).title()).isEqualTo("Original");
+    }
+
+    @Test
+    @DisplayName("A single create should put the task in the cache")
+    void createTask_WritesThrough() {
+        // Act
+        Long id = createTask("Created").getId();
+
+        // Assert
+        assertThat(cache.get(id, CachedTask.class).title()).isEqualTo("Created");
+    }
+
+    @Test
+    @DisplayName("A bulk create should evict ids that were cached as missing")
+    void createTasks_EvictsCachedMisses() {
+        // Arrange - ids come from the sequence in order, so the next two are known in advance
+        Long last = createTask("Before").getId();
+        List<Long> next = List.of(last + 1, last + 2);
+        next.forEach(id -> assertThat(taskService.getTaskById(id)).isEmpty());
+        assertThat(cache.get(last + 1)).isNotNull(); // Cached as absent
+
+        // Act
+        List<Long> created = taskService.createTasks(List.of(newTask("Bulk 1"), newTask("Bulk 2"))).results().stream()
+                .map(BulkCreateResult::id)
+                .toList();
+
+        // Assert
+        assertThat(created).isEqualTo(next);
+        assertThat(cache.get(last + 1)).isNull();
+        assertThat(taskService.getTaskById(last + 1)).map(Task::getTitle).contains("Bulk 1");
+        assertThat(taskService.getTaskById(last + 2)).map(Task::getTitle).contains("Bulk 2");
+    }
+
+    @Test
+    @DisplayName("An update should replace the cached task")
+    void updateTask_RefreshesEntry() {
+        // Arrange
+        Long id = createTask("Before update").getId();
+        taskService.getTaskById(id);
+        Task details = newTask("After update");
+        details.setStatus(TaskStatus.IN_PROGRESS);
+
+        // Act
+        taskService.updateTask(id, details);
+
+        // Assert
+        Task task = taskService.getTaskById(id).orElseThrow();
+        assertThat(task.getTitle()).isEqualTo("After update");
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Completing a task should replace the cached task")
+    void markTaskAsComplete_RefreshesEntry() {
+        // Arrange
+        Long id = createTask("To complete").getId();
+        taskService.getTaskById(id);
+
+        // Act
+        taskService.markTaskAsComplete(id);
+
+        // Assert
+        assertThat(cache.get(id, CachedTask.class).status()).isEqualTo(TaskStatus.DONE);
+        assertThat(taskService.getTaskById(id).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("Deletes should evict the cached tasks")
+    void delete_EvictsEntries() {
+        // Arrange
+        Long single = createTask("Delete one").getId();
+        Long bulk = createTask("Delete many").getId();
+        taskService.getTaskById(single);
+        taskService.getTaskById(bulk);
+
+        // Act
+        taskService.deleteTask(single);
+        taskService.deleteTasks(List.of(bulk));
+
+        // Assert
+        assertThat(taskService.getTaskById(single)).isEmpty();
+        assertThat(taskService.getTaskById(bulk)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A status change by ids should evict those tasks, one by filter should clear the cache")
+    void updateStatus_EvictsOrClears() {
+        // Arrange
+        Long byId = createTask("Status by id").getId();
+        Long other = createTask("Other").getId();
+        taskService.getTaskById(byId);
+        taskService.getTaskById(other);
+
+        // Act - by ids
+        taskService.updateStatus(new BulkStatusUpdateRequest(List.of(byId), null, null, null, TaskStatus.IN_PROGRESS));
+
+        // Assert
+        assertThat(cache.get(byId)).isNull();
+        assertThat(cache.get(other)).isNotNull();
+        assertThat(taskService.getTaskById(byId).orElseThrow().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+
+        // Act - by filter
+        taskService.updateStatus(new BulkStatusUpdateRequest(null, null, null, "Other", TaskStatus.DONE));
+
+        // Assert
+        assertThat(cache.get(byId)).isNull();
+        assertThat(cache.get(other)).isNull();
+        assertThat(taskService.getTaskById(other).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/cache/stats should report hits and misses")
+    void cacheStats_ReportsHitsAndMisses() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        Long id = createTask("Stats").getId();
+        cache.clear();
+        com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine = (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+        long hits = caffeine.stats().hitCount();
+        long misses = caffeine.stats().missCount();
+
+        // Act - one miss, then two hits
+        taskService.getTaskById(id);
+        taskService.getTaskById(id);
+        taskService.getTaskById(id);
+
+        // Assert
+        mockMvc.perform(get("/api/tasks/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hitCount").value(hits + 2))
+                .andExpect(jsonPath("$.missCount").value(misses + 1));
+    }
+
+    private Task createTask(String title) {
+        return taskService.createTask(newTask(title));
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return task;
+    }
+}
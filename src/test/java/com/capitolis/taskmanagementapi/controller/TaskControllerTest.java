@@ -0,0 +1,235 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.metrics.StatementCountingInspector;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * TaskController through the full MVC stack (filters, message converters, exception handling) against the H2 database.
+ */
+@SpringBootTest(properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false"
+})
+@DisplayName("TaskController tests")
+class TaskControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private TaskService taskService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    // ==================== BAD REQUEST TESTS ====================
+
+    @Test
+    @DisplayName("A cursor that was not produced by the API should be a 400 with the reason")
+    void getAllTasks_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("cursor", "not-a-cursor!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor: not-a-cursor!"));
+    }
+
+    @Test
+    @DisplayName("An unknown ?view= should be a 400")
+    void getAllTasks_UnknownView() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("view", "compact"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown view 'compact', expected 'full' or 'summary'"));
+    }
+
+    // ==================== ETAG TESTS ====================
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} should send a strong ETag and answer a matching If-None-Match with 304")
+    void getTaskById_StrongETag() throws Exception {
+        // Arrange
+        Task task = createTask("Strong tag");
+
+        // Act
+        String etag = mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Assert
+        assertThat(etag).startsWith("\"" + task.getId() + "-").doesNotStartWith("W/");
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"something-else\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Strong tag"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} should send a new ETag after the task changes")
+    void getTaskById_ETagChangesAfterWrite() throws Exception {
+        // Arrange
+        Task task = createTask("Before");
+        String before = mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act
+        mockMvc.perform(put("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"After\",\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk());
+
+        // Assert - the old tag no longer matches, the response carries the new one
+        String after = mockMvc.perform(get("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("After"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotEqualTo(before);
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, after))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("A conditional GET of a cached task should be answered without any SQL")
+    void getTaskById_CachedTaskNeedsNoQuery() throws Exception {
+        // Arrange - the first GET caches the task
+        Task task = createTask("Cached");
+        String etag = mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Assert - the count of the last request is left in place on this thread
+        assertThat(StatementCountingInspector.current()).isZero();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks should send a weak ETag that changes after any write")
+    void getAllTasks_WeakETag() throws Exception {
+        // Arrange
+        createTask("Listed");
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/");
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Act
+        createTask("Listed later");
+
+        // Assert
+        String after = mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).startsWith("W/").isNotEqualTo(etag);
+    }
+
+    // ==================== EXPORT TESTS ====================
+
+    @Test
+    @DisplayName("GET /api/tasks/export should stream the matching tasks as NDJSON, one task per line")
+    void exportTasks_NdjsonWithFilters() throws Exception {
+        // Arrange - a keyword no other test uses, so the shared database doesn't matter
+        String keyword = "export-" + UUID.randomUUID();
+        Task first = createTask(keyword + " first", TaskStatus.TODO);
+        Task second = createTask(keyword + " second", TaskStatus.TODO);
+        createTask(keyword + " done", TaskStatus.DONE);
+
+        // Act - the body is written after the handler returns, on an async dispatch
+        MvcResult started = mockMvc.perform(get("/api/tasks/export")
+                        .param("status", "TODO")
+                        .param("keyword", keyword.toUpperCase()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        List<String> lines = body.lines().toList();
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        List<JsonNode> tasks = lines.stream().map(jsonMapper::readTree).toList();
+        assertThat(tasks).extracting(task -> task.path("id").asLong()).containsExactly(first.getId(), second.getId());
+        assertThat(tasks).extracting(task -> task.path("status").asString()).containsOnly("TODO");
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/export should match % and _ in the keyword literally, not as wildcards")
+    void exportTasks_KeywordWithWildcards() throws Exception {
+        // Arrange - "a_b%c" as a pattern would also match the second title
+        String prefix = "export-" + UUID.randomUUID();
+        Task literal = createTask(prefix + " a_b%c", TaskStatus.TODO);
+        createTask(prefix + " aXbYYc", TaskStatus.TODO);
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/tasks/export").param("keyword", prefix + " a_b%c"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        assertThat(body.lines().map(jsonMapper::readTree).toList())
+                .extracting(task -> task.path("id").asLong())
+                .containsExactly(literal.getId());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/export with an unknown status should be a 400 before anything is streamed")
+    void exportTasks_UnknownStatus() throws Exception {
+        mockMvc.perform(get("/api/tasks/export").param("status", "SOMEDAY"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    private Task createTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.createTask(task);
+    }
+
+    private Task createTask(String title, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        return taskService.createTask(task);
+    }
+}
@@ -0,0 +1,112 @@
+package com.capitolis.taskmanagementapi.controller;
+
+import com.capitolis.taskmanagementapi.exception.ApiExceptionHandler;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.service.AsyncTaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * How TaskDashboardController maps the outcome of its CompletableFutures to HTTP statuses (standalone MockMvc, mocked service).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskDashboardController Unit Tests")
+class TaskDashboardControllerTest {
+
+    @Mock
+    private AsyncTaskService asyncTaskService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TaskDashboardController controller = new TaskDashboardController(asyncTaskService);
+        ReflectionTestUtils.setField(controller, "maxPageSize", 500); // @Value isn't resolved in a standalone setup
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /lookup should return the tasks once the future completes")
+    void lookup_Ok() throws Exception {
+        Task task = new Task();
+        task.setId(7L);
+        when(asyncTaskService.getTasksByIds(List.of(7L, 8L))).thenReturn(CompletableFuture.completedFuture(List.of(task)));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/lookup").param("ids", "7,8"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(7));
+    }
+
+    @Test
+    @DisplayName("A full executor queue should be a 503")
+    void lookup_Rejected() throws Exception {
+        when(asyncTaskService.getTasksByIds(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("queue full")));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/lookup").param("ids", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Too many concurrent lookups"));
+    }
+
+    @Test
+    @DisplayName("A lookup slower than the timeout should be a 504")
+    void lookup_Timeout() throws Exception {
+        // orTimeout fails the future the service returns, the controller's thenApply wraps it in a CompletionException
+        when(asyncTaskService.getTasksByIds(anyList()))
+                .thenReturn(new CompletableFuture<List<Task>>().orTimeout(10, TimeUnit.MILLISECONDS));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/lookup").param("ids", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("Lookup timed out"));
+    }
+
+    @Test
+    @DisplayName("More ids than the maximum page size should be a 400 without any lookup")
+    void lookup_TooManyIds() throws Exception {
+        String ids = String.join(",", Collections.nCopies(501, "1"));
+
+        mockMvc.perform(get("/api/tasks/lookup").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        verify(asyncTaskService, never()).getTasksByIds(anyList());
+    }
+}
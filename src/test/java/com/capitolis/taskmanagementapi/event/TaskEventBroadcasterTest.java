@@ -0,0 +1,205 @@
+package com.capitolis.taskmanagementapi.event;
+
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskEventBroadcaster Unit Tests")
+class TaskEventBroadcasterTest {
+
+    private static final long SEND_TIMEOUT_MS = 200;
+
+    private TaskEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new TaskEventBroadcaster(JsonMapper.builder().build(), 3, 1 << 20, SEND_TIMEOUT_MS, 60_000) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                return new RecordingEmitter();
+            }
+        };
+        // @Value isn't resolved in a plain unit test
+        ReflectionTestUtils.setField(broadcaster, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(broadcaster, "bufferSize", 2);
+        ReflectionTestUtils.setField(broadcaster, "timeoutMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should replay the events after Last-Event-ID to a reconnecting client")
+    void testSubscribe_ReplaysFromLastEventId() throws Exception {
+        // Arrange
+        RecordingEmitter first = subscribe(null);
+        publishDeleted(1L);
+        publishDeleted(2L);
+        String lastSeen = eventId(first.next());
+        first.next();
+
+        // Act
+        RecordingEmitter reconnected = subscribe(lastSeen);
+
+        // Assert - only the event after the one the client saw
+        String replayed = reconnected.next();
+        assertThat(replayed).contains("event:deleted").contains("[2]");
+        assertThat(reconnected.sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should send reset when Last-Event-ID is no longer in the replay buffer")
+    void testSubscribe_ResetWhenTooFarBehind() throws Exception {
+        // Arrange - the replay buffer keeps 3 events
+        RecordingEmitter first = subscribe(null);
+        publishDeleted(1L);
+        String lastSeen = eventId(first.next());
+        for (long id = 2; id <= 5; id++) {
+            publishDeleted(id);
+        }
+
+        // Act
+        RecordingEmitter reconnected = subscribe(lastSeen);
+
+        // Assert
+        assertThat(reconnected.next()).contains("event:reset");
+    }
+
+    @Test
+    @DisplayName("Should disconnect a client whose queue overflows without delaying the others")
+    void testBroadcast_OverflowDisconnectsSlowClient() throws Exception {
+        // Arrange - the slow client's first write blocks, so its queue (2 events) fills up
+        RecordingEmitter slow = subscribe(null);
+        RecordingEmitter fast = subscribe(null);
+        slow.block();
+
+        // Act & Assert - the fast client keeps receiving while the slow one is stuck
+        for (long id = 1; id <= 4; id++) {
+            publishDeleted(id);
+            assertThat(fast.next()).contains("[" + id + "]");
+        }
+        waitUntil(() -> slow.completed);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        slow.unblock();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a client whose write stays blocked past the send timeout")
+    void testBroadcast_SendTimeoutDisconnectsStuckClient() throws Exception {
+        // Arrange
+        RecordingEmitter stuck = subscribe(null);
+        RecordingEmitter fast = subscribe(null);
+        stuck.block();
+
+        // Act - a single event, so the queue never overflows
+        publishDeleted(1L);
+
+        // Assert
+        assertThat(fast.next()).contains("event:deleted");
+        waitUntil(() -> stuck.completed);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        stuck.unblock();
+    }
+
+    @Test
+    @DisplayName("Should forget a client whose connection failed")
+    void testBroadcast_RemovesDisconnectedClient() throws Exception {
+        // Arrange
+        RecordingEmitter gone = subscribe(null);
+        gone.failSends = true;
+
+        // Act
+        publishDeleted(1L);
+
+        // Assert
+        waitUntil(() -> broadcaster.subscriberCount() == 0);
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        return (RecordingEmitter) broadcaster.subscribe(lastEventId);
+    }
+
+    private void publishDeleted(long id) {
+        broadcaster.onTaskChanged(TaskChangedEvent.deleted(List.of(id), Map.of(TaskStatus.TODO, 1L)));
+    }
+
+    private static String eventId(String event) {
+        return event.lines().filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // Captures each event as SSE text instead of writing to a response
+    private static final class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        volatile CountDownLatch blocked;
+        volatile boolean failSends;
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failSends) {
+                throw new IOException("Broken pipe");
+            }
+            CountDownLatch latch = blocked;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : new ArrayList<>(builder.build())) {
+                text.append(part.getData());
+            }
+            sent.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        String next() throws InterruptedException {
+            String event = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("no event received").isNotNull();
+            return event;
+        }
+
+        void block() {
+            blocked = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            blocked.countDown();
+        }
+    }
+}
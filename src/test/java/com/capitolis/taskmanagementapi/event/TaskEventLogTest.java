@@ -0,0 +1,107 @@
+package com.capitolis.taskmanagementapi.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskEventLog Unit Tests")
+class TaskEventLogTest {
+
+    private TaskEventLog eventLog;
+
+    @BeforeEach
+    void setUp() {
+        eventLog = new TaskEventLog(3, 1024);
+    }
+
+    @Test
+    @DisplayName("Should replay the events after the last one the client saw")
+    void testSince_ReplaysMissedEvents() {
+        // Arrange
+        eventLog.append("created", "{}");
+        eventLog.append("updated", "{}");
+        eventLog.append("deleted", "{}");
+
+        // Act
+        Optional<List<TaskFeedEvent>> missed = eventLog.since(1);
+
+        // Assert
+        assertThat(missed).isPresent();
+        assertThat(missed.get()).extracting(TaskFeedEvent::name).containsExactly("updated", "deleted");
+        assertThat(missed.get()).extracting(TaskFeedEvent::sequence).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should return nothing to replay for an up-to-date client")
+    void testSince_UpToDate() {
+        // Arrange
+        eventLog.append("created", "{}");
+
+        // Act & Assert
+        assertThat(eventLog.since(1)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("Should refuse to replay when the client's last event was overwritten")
+    void testSince_TooFarBehind() {
+        // Arrange - capacity is 3, so event 1 is gone after 4 appends
+        for (int i = 0; i < 4; i++) {
+            eventLog.append("created", "{}");
+        }
+
+        // Act & Assert
+        assertThat(eventLog.since(0)).isEmpty();
+        assertThat(eventLog.since(1)).hasValueSatisfying(missed ->
+                assertThat(missed).extracting(TaskFeedEvent::sequence).containsExactly(2L, 3L, 4L));
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest events once the buffered data exceeds the byte limit")
+    void testAppend_ByteLimit() {
+        // Arrange - 7 + 93 bytes per event, the limit holds two of them
+        TaskEventLog small = new TaskEventLog(100, 200);
+        String data = "x".repeat(93);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            small.append("created", data);
+        }
+
+        // Assert
+        assertThat(small.bytes()).isEqualTo(200);
+        assertThat(small.since(0)).isEmpty();
+        assertThat(small.since(1)).hasValueSatisfying(missed ->
+                assertThat(missed).extracting(TaskFeedEvent::sequence).containsExactly(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Should not keep an event larger than the byte limit")
+    void testAppend_EventLargerThanLimit() {
+        // Arrange
+        TaskEventLog small = new TaskEventLog(100, 10);
+        small.append("created", "{}");
+
+        // Act
+        small.append("created", "x".repeat(50));
+
+        // Assert - a client that saw event 1 missed the big one and has to reload
+        assertThat(small.bytes()).isZero();
+        assertThat(small.since(1)).isEmpty();
+        assertThat(small.since(2)).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("Should refuse to replay for an id ahead of the log")
+    void testSince_FutureSequence() {
+        // Arrange
+        eventLog.append("created", "{}");
+
+        // Act & Assert
+        assertThat(eventLog.since(5)).isEmpty();
+    }
+}
@@ -0,0 +1,170 @@
+package com.capitolis.taskmanagementapi.ingest;
+
+import com.capitolis.taskmanagementapi.dto.BulkCreateResponse;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResult;
+import com.capitolis.taskmanagementapi.dto.IngestStatus;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskIngestQueue Unit Tests")
+class TaskIngestQueueTest {
+
+    @Mock
+    private TaskService taskService;
+
+    private TaskIngestQueue ingestQueue;
+
+    @AfterEach
+    void tearDown() {
+        if (ingestQueue != null && ingestQueue.isRunning()) {
+            ingestQueue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write queued tasks in one batch and report them as CREATED")
+    void testSubmit_WrittenInBatch() {
+        // Arrange
+        answerWithIds();
+        ingestQueue = newQueue(100, 10);
+        ingestQueue.start();
+
+        // Act
+        List<String> trackingIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            trackingIds.add(ingestQueue.submit(task("Task " + i)).orElseThrow().trackingId());
+        }
+
+        // Assert - batch-size is 10, so all ten go into one createTasks call
+        verify(taskService, timeout(5_000).times(1)).createTasks(anyList());
+        ingestQueue.stop(); // Waits for the writer, which records the outcome after createTasks returns
+        verify(taskService, times(1)).createTasks(anyList());
+        for (String trackingId : trackingIds) {
+            IngestStatus status = ingestQueue.getStatus(trackingId).orElseThrow();
+            assertThat(status.state()).isEqualTo(IngestStatus.State.CREATED);
+            assertThat(status.id()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse submits when the queue is full")
+    void testSubmit_QueueFull() throws Exception {
+        // Arrange - the writer is stuck in its first batch, so the queue behind it fills up
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.createTasks(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return createdResponse(invocation.getArgument(0), new AtomicLong());
+        });
+        ingestQueue = newQueue(2, 1);
+        ingestQueue.start();
+        ingestQueue.submit(task("In flight"));
+        verify(taskService, timeout(5_000)).createTasks(anyList());
+
+        // Act
+        Optional<IngestStatus> first = ingestQueue.submit(task("Queued 1"));
+        Optional<IngestStatus> second = ingestQueue.submit(task("Queued 2"));
+        Optional<IngestStatus> third = ingestQueue.submit(task("Rejected"));
+        release.countDown();
+
+        // Assert
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write every queued task before stop() returns")
+    void testStop_FlushesQueue() {
+        // Arrange - batch-size above the number of tasks, so the last batch is only written because of stop()
+        AtomicLong ids = answerWithIds();
+        ingestQueue = new TaskIngestQueue(taskService, new SimpleMeterRegistry(), 1000, 1000, 200, 0, 0, 1000);
+        ingestQueue.start();
+        for (int i = 0; i < 250; i++) {
+            ingestQueue.submit(task("Task " + i));
+        }
+
+        // Act
+        ingestQueue.stop();
+
+        // Assert
+        assertThat(ids.get()).isEqualTo(250);
+        assertThat(ingestQueue.queueSize()).isZero();
+        assertThat(ingestQueue.isRunning()).isFalse();
+        assertThat(ingestQueue.submit(task("Too late"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch")
+    void testWrite_RetriesFailedBatch() {
+        // Arrange
+        when(taskService.createTasks(anyList()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(invocation -> createdResponse(invocation.getArgument(0), new AtomicLong()));
+        ingestQueue = newQueue(100, 10);
+        ingestQueue.start();
+
+        // Act
+        String trackingId = ingestQueue.submit(task("Retried")).orElseThrow().trackingId();
+        ingestQueue.stop();
+
+        // Assert
+        verify(taskService, times(2)).createTasks(anyList());
+        assertThat(ingestQueue.getStatus(trackingId).orElseThrow().state()).isEqualTo(IngestStatus.State.CREATED);
+    }
+
+    @Test
+    @DisplayName("Should reject a task without a title before queueing it")
+    void testSubmit_MissingTitle() {
+        ingestQueue = newQueue(100, 10);
+
+        assertThatThrownBy(() -> ingestQueue.submit(task(" ")))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(ingestQueue.queueSize()).isZero();
+    }
+
+    private TaskIngestQueue newQueue(int capacity, int batchSize) {
+        return new TaskIngestQueue(taskService, new SimpleMeterRegistry(), capacity, batchSize, 20, 3, 1, 1000);
+    }
+
+    private AtomicLong answerWithIds() {
+        AtomicLong ids = new AtomicLong();
+        when(taskService.createTasks(anyList()))
+                .thenAnswer(invocation -> createdResponse(invocation.getArgument(0), ids));
+        return ids;
+    }
+
+    private static BulkCreateResponse createdResponse(List<Task> tasks, AtomicLong ids) {
+        List<BulkCreateResult> results = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            results.add(BulkCreateResult.created(i, ids.incrementAndGet()));
+        }
+        return new BulkCreateResponse(tasks.size(), 0, results);
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return task;
+    }
+}
@@ -0,0 +1,67 @@
+package com.capitolis.taskmanagementapi.jmh;
+
+import com.capitolis.taskmanagementapi.TaskManagementApiApplication;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application for a JMH benchmark: own in-memory database, no browser / console, SQL logging off
+ * (printing every statement would dominate the measurements).
+ */
+final class BenchmarkApplication {
+
+    private static final String[] WORDS = {"fix", "update", "review", "deploy", "write", "test", "meeting", "report", "spring"};
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String database, WebApplicationType webApplicationType, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:" + database,
+                "app.browser.auto-open=false",
+                "app.console.task-manager.enabled=false",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.root=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.org.springframework.web=WARN"));
+        properties.addAll(List.of(extraProperties));
+
+        return new SpringApplicationBuilder(TaskManagementApiApplication.class)
+                .web(webApplicationType)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    // Inserts count tasks through the bulk path and returns them (with ids)
+    static List<Task> seed(TaskService taskService, int count) {
+        List<Task> tasks = newTasks(count);
+        taskService.createTasks(tasks);
+        return tasks;
+    }
+
+    static List<Task> newTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(newTask(i));
+        }
+        return tasks;
+    }
+
+    static Task newTask(int i) {
+        Task task = new Task();
+        task.setTitle(WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " task " + i);
+        task.setDescription("Benchmark task number " + i);
+        task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+        return task;
+    }
+}
@@ -0,0 +1,84 @@
+package com.capitolis.taskmanagementapi.jmh;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * TaskController dispatch through MockMvc: routing, argument binding, the service call and JSON writing,
+ * without the network and Tomcat in the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskControllerBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+    private static final String NEW_TASK = "{\"title\":\"Benchmark task\",\"description\":\"Created through MockMvc\",\"status\":\"TODO\"}";
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("jmh-controller", WebApplicationType.SERVLET);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        List<Task> tasks = BenchmarkApplication.seed(context.getBean(TaskService.class), TASK_COUNT);
+        ids = tasks.stream().mapToLong(Task::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getTaskById() throws Exception {
+        return mockMvc.perform(get("/api/tasks/{id}", ids[ThreadLocalRandom.current().nextInt(ids.length)])).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getTasksPage() throws Exception {
+        return mockMvc.perform(get("/api/tasks").param("size", "50")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getTasksByStatusPage() throws Exception {
+        return mockMvc.perform(get("/api/tasks/status/{status}", "TODO").param("size", "50")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createTask() throws Exception {
+        return mockMvc.perform(post("/api/tasks").contentType(MediaType.APPLICATION_JSON).content(NEW_TASK)).andReturn();
+    }
+}
@@ -0,0 +1,97 @@
+package com.capitolis.taskmanagementapi.jmh;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.web.TaskProtobufEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode time of one page of tasks in every response format (JSON, JSON + gzip, CBOR, Smile, protobuf).
+ * Payload sizes are printed by EncodingSizeBenchmarkTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskEncodingBenchmark {
+
+    @Param({"50", "500"})
+    public int size;
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+    private final ObjectMapper cbor = CBORMapper.builder().build();
+    private final ObjectMapper smile = SmileMapper.builder().build();
+    private CursorPage<Task> page;
+
+    @Setup
+    public void setUp() {
+        page = new CursorPage<>(samplePage(size), "MTIz", true);
+    }
+
+    @Benchmark
+    public byte[] json() {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            json.writeValue(gzip, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] cbor() {
+        return cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] smile() {
+        return smile.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] protobuf() throws IOException {
+        return TaskProtobufEncoder.encode(page);
+    }
+
+    // Tasks shaped like real ones - all fields set, a description of a few sentences
+    static List<Task> samplePage(int size) {
+        LocalDateTime now = LocalDateTime.of(2026, 2, 15, 10, 30);
+        List<Task> tasks = BenchmarkApplication.newTasks(size);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId(1_000_000L + i);
+            task.setDescription("Benchmark task number " + i + ". Check the numbers, update the report and send it to the team before the review meeting.");
+            task.setDueDate(now.plusDays(i % 30));
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now.plusHours(i % 12));
+        }
+        return tasks;
+    }
+}
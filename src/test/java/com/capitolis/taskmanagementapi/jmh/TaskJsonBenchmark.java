@@ -0,0 +1,67 @@
+package com.capitolis.taskmanagementapi.jmh;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of Task lists - 1 task (GET /{id}), a page (50) and a large page / export chunk (5000).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "50", "5000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private List<Task> tasks;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        tasks = BenchmarkApplication.newTasks(size);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.setId((long) i + 1);
+            task.setDueDate(now.plusDays(i % 30));
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+        }
+        json = objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<Task> deserialize() {
+        return objectMapper.readValue(json, TASK_LIST);
+    }
+}
@@ -0,0 +1,103 @@
+package com.capitolis.taskmanagementapi.jmh;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.SearchPage;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.search.TaskSearchService;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskService hot paths against the embedded H2 database, with the application context booted once per fork.
+ * cacheType switches the task cache in front of getTaskById on and off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskSearchService taskSearchService;
+    private long[] ids;
+    private int created;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("jmh-service", WebApplicationType.NONE, "spring.cache.type=" + cacheType);
+        taskService = context.getBean(TaskService.class);
+        taskSearchService = context.getBean(TaskSearchService.class);
+
+        List<Task> tasks = BenchmarkApplication.seed(taskService, TASK_COUNT);
+        ids = tasks.stream().mapToLong(Task::getId).toArray();
+        taskSearchService.rebuildIndex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return taskService.createTask(BenchmarkApplication.newTask(created++));
+    }
+
+    @Benchmark
+    public Optional<Task> getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        long id = randomId();
+        Task details = BenchmarkApplication.newTask((int) id);
+        return taskService.updateTask(id, details);
+    }
+
+    @Benchmark
+    public CursorPage<Task> getTasksPage() {
+        return taskService.getTasksPage(null, 50);
+    }
+
+    @Benchmark
+    public CursorPage<Task> searchByTitleLike() {
+        return taskService.searchTasksByTitlePage("review", null, 20);
+    }
+
+    @Benchmark
+    public SearchPage searchFullText() {
+        return taskSearchService.search("review dep", 0, 20);
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,77 @@
+package com.capitolis.taskmanagementapi.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts of one operation, recorded concurrently from the HTTP client's threads.
+
+ * Two latencies per request:
+ * - response time: from when the request was SCHEDULED to be sent until the response arrived.
+ *   The schedule doesn't slow down when the server does, so a stall shows up in every request that should have been
+ *   sent during it - this is the coordinated-omission-corrected number, and the one to read.
+ * - service time: from when the request was actually sent - what a naive closed-loop tool would report.
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Operation operation;
+    private final Recorder responseTime = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    void recordSuccess(long intendedNanos, long sentNanos, long completedNanos) {
+        responseTime.recordValue(toMicros(completedNanos - intendedNanos));
+        serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    // The generator hit --max-in-flight and skipped a scheduled request
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    // Forget everything recorded so far (end of warm-up)
+    void reset() {
+        responseTime.reset();
+        serviceTime.reset();
+        errors.reset();
+        dropped.reset();
+    }
+
+    Histogram responseTimeHistogram() {
+        return responseTime.getIntervalHistogram();
+    }
+
+    Histogram serviceTimeHistogram() {
+        return serviceTime.getIntervalHistogram();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+}
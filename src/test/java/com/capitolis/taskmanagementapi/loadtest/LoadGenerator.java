@@ -0,0 +1,218 @@
+package com.capitolis.taskmanagementapi.loadtest;
+
+import com.capitolis.taskmanagementapi.dto.BulkCreateResponse;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResult;
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.model.Task;
+import org.HdrHistogram.Histogram;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator for a locally running instance of the API.
+
+ * Requests are sent on a fixed schedule (--rate per second) whether or not earlier ones have returned, the way real
+ * users arrive. Latency is measured from the scheduled send time, so a server stall is charged to every request that
+ * was due during it (no coordinated omission). Results are HdrHistogram percentile files, one per endpoint.
+
+ * Start the app, then run: mvn test -Ploadtest -Dloadtest.args="--rate=500 --duration=60s"
+ * See LoadTestConfig for all options.
+ */
+public final class LoadGenerator {
+
+    private static final int SEED_CHUNK = 1_000;
+    private static final TypeReference<CursorPage<Task>> TASK_PAGE = new TypeReference<>() {
+    };
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long measuringFrom = Long.MAX_VALUE; // Responses to requests scheduled before this are warm-up
+
+    private LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        config.mix().keySet().forEach(operation -> stats.put(operation, new EndpointStats(operation)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadGenerator(LoadTestConfig.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            long[] ids = seed(http);
+            System.out.printf("Load test against %s: %d req/s, warm-up %ds, measuring %ds, %d task ids%n",
+                    config.target(), config.rate(), config.warmup().toSeconds(), config.duration().toSeconds(), ids.length);
+
+            long start = System.nanoTime();
+            measuringFrom = start + config.warmup().toNanos();
+            dispatch(http, ids, start, measuringFrom + config.duration().toNanos());
+            awaitOutstanding();
+            report();
+        }
+    }
+
+    // Sends request i at start + i / rate, never waiting for responses - that's what makes it open loop
+    private void dispatch(HttpClient http, long[] ids, long start, long end) {
+        Random random = new Random(42);
+        Operation[] wheel = weightedWheel();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        boolean measuring = false;
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && intended >= measuringFrom) {
+                measuring = true;
+                stats.values().forEach(EndpointStats::reset); // Warm-up is over - drop what it recorded
+            }
+
+            EndpointStats endpoint = stats.get(wheel[random.nextInt(wheel.length)]);
+            if (inFlight.get() >= config.maxInFlight()) {
+                endpoint.recordDropped();
+                continue;
+            }
+            HttpRequest request = endpoint.operation().build(config.target(), random, ids);
+            inFlight.incrementAndGet();
+            long sent = System.nanoTime();
+            http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long completed = System.nanoTime();
+                inFlight.decrementAndGet();
+                if (intended < measuringFrom) {
+                    return;
+                }
+                if (error != null || response.statusCode() >= 400) {
+                    endpoint.recordError();
+                } else {
+                    endpoint.recordSuccess(intended, sent, completed);
+                }
+            });
+        }
+    }
+
+    // 40/30/20/10 -> an array with 40 LISTs, 30 STATUSes... picking a random slot follows the weights
+    private Operation[] weightedWheel() {
+        List<Operation> wheel = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        });
+        return wheel.toArray(Operation[]::new);
+    }
+
+    private void awaitOutstanding() {
+        long deadline = System.nanoTime() + Operation.TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    // Creates --seed tasks through POST /api/tasks/bulk and returns their ids (or the first existing page when --seed=0)
+    private long[] seed(HttpClient http) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(config.seed());
+        Random random = new Random(7);
+        for (int created = 0; created < config.seed(); created += SEED_CHUNK) {
+            List<Map<String, Object>> chunk = new ArrayList<>();
+            for (int i = created; i < Math.min(config.seed(), created + SEED_CHUNK); i++) {
+                Map<String, Object> task = new LinkedHashMap<>();
+                task.put("title", Operation.KEYWORDS[random.nextInt(Operation.KEYWORDS.length)] + " load test task " + i);
+                task.put("description", "Seeded by the load generator");
+                task.put("status", i % 3 == 0 ? "DONE" : i % 3 == 1 ? "IN_PROGRESS" : "TODO");
+                chunk.add(task);
+            }
+            HttpResponse<byte[]> response = http.send(HttpRequest.newBuilder(config.target().resolve("/api/tasks/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(chunk)))
+                    .build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode());
+            }
+            for (BulkCreateResult result : objectMapper.readValue(response.body(), BulkCreateResponse.class).results()) {
+                if (result.id() != null) {
+                    ids.add(result.id());
+                }
+            }
+        }
+
+        if (ids.isEmpty()) {
+            HttpResponse<byte[]> response = http.send(HttpRequest.newBuilder(config.target().resolve("/api/tasks?size=500")).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            objectMapper.readValue(response.body(), TASK_PAGE).items().forEach(task -> ids.add(task.getId()));
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // summary.txt plus <operation>.hgrm (response time) and <operation>-service.hgrm per endpoint, values in ms
+    private void report() throws IOException {
+        Path dir = config.reportDir().resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(dir);
+        double seconds = config.duration().toMillis() / 1000.0;
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("target %s, %d req/s scheduled, %.0f s measured%n", config.target(), config.rate(), seconds));
+        summary.append(String.format("%-9s %8s %8s %8s %9s %9s %9s %9s %9s %10s%n",
+                "endpoint", "count", "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99"));
+
+        for (EndpointStats endpoint : stats.values()) {
+            Histogram response = endpoint.responseTimeHistogram();
+            Histogram service = endpoint.serviceTimeHistogram();
+            writeHistogram(dir.resolve(endpoint.operation().label() + ".hgrm"), response);
+            writeHistogram(dir.resolve(endpoint.operation().label() + "-service.hgrm"), service);
+
+            summary.append(String.format("%-9s %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %10.2f%n",
+                    endpoint.operation().label(), response.getTotalCount(), endpoint.errors(), endpoint.dropped(),
+                    response.getTotalCount() / seconds,
+                    response.getValueAtPercentile(50) / 1000.0, response.getValueAtPercentile(99) / 1000.0,
+                    response.getValueAtPercentile(99.9) / 1000.0, response.getMaxValue() / 1000.0,
+                    service.getValueAtPercentile(99) / 1000.0));
+        }
+
+        Files.writeString(dir.resolve("summary.txt"), summary);
+        System.out.println();
+        System.out.print(summary);
+        System.out.println("Reports written to " + dir.toAbsolutePath());
+    }
+
+    // Values are recorded in microseconds - scaling by 1000 writes the percentile table in milliseconds
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
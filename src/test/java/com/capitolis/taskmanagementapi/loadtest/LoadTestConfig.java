@@ -0,0 +1,100 @@
+package com.capitolis.taskmanagementapi.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load test settings, parsed from --name=value arguments. Every setting has a default, so no arguments is a valid run.
+
+ * --target=http://localhost:8080              base URL - only local addresses are accepted
+ * --rate=200                                  requests per second, spread evenly over time (open loop)
+ * --duration=60s / --warmup=10s               measured time and discarded warm-up time (s, ms or m suffix)
+ * --mix=list:40,status:30,search:20,complete:10   relative weights of the operations
+ * --seed=10000                                tasks created through POST /api/tasks/bulk before the run (0 = none)
+ * --max-in-flight=10000                       requests outstanding at once before new ones are counted as dropped
+ * --report-dir=target/loadtest                where the per-endpoint .hgrm files and summary.txt are written
+ */
+record LoadTestConfig(URI target, int rate, Duration duration, Duration warmup, Map<Operation, Integer> mix,
+                      int seed, int maxInFlight, Path reportDir) {
+
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]", "::1");
+
+    static LoadTestConfig parse(String[] args) {
+        URI target = URI.create("http://localhost:8080");
+        int rate = 200;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        Map<Operation, Integer> mix = parseMix("list:40,status:30,search:20,complete:10");
+        int seed = 10_000;
+        int maxInFlight = 10_000;
+        Path reportDir = Path.of("target", "loadtest");
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "target" -> target = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "rate" -> rate = Integer.parseInt(value);
+                case "duration" -> duration = parseDuration(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "mix" -> mix = parseMix(value);
+                case "seed" -> seed = Integer.parseInt(value);
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "report-dir" -> reportDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+
+        // The tool creates and completes tasks - never point it at a shared or production instance
+        if (target.getHost() == null) {
+            throw new IllegalArgumentException("--target needs a scheme and host, e.g. http://localhost:8080, got: " + target);
+        }
+        if (!LOCAL_HOSTS.contains(target.getHost())) {
+            throw new IllegalArgumentException("Load tests only run against a local instance, not " + target.getHost());
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        return new LoadTestConfig(target, rate, duration, warmup, mix, seed, maxInFlight, reportDir);
+    }
+
+    // "list:40,search:20" -> {LIST=40, SEARCH=20}
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.trim().split(":");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight, got: " + part);
+            }
+            int parsed = Integer.parseInt(weight[1].trim());
+            if (parsed > 0) {
+                mix.put(Operation.fromName(weight[0].trim()), parsed);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one operation with a positive weight");
+        }
+        return mix;
+    }
+
+    // "90s", "1500ms", "2m"
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
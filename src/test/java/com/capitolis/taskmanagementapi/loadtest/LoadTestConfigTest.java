@@ -0,0 +1,53 @@
+package com.capitolis.taskmanagementapi.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoadTestConfig Unit Tests")
+class LoadTestConfigTest {
+
+    @Test
+    @DisplayName("Should parse options and operation mix")
+    void testParse_Options() {
+        // Act
+        LoadTestConfig config = LoadTestConfig.parse(new String[]{
+                "--target=http://127.0.0.1:9090/", "--rate=750", "--duration=2m", "--warmup=500ms", "--mix=list:3,complete:1,search:0"});
+
+        // Assert
+        assertThat(config.target().toString()).isEqualTo("http://127.0.0.1:9090");
+        assertThat(config.rate()).isEqualTo(750);
+        assertThat(config.duration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(config.warmup()).isEqualTo(Duration.ofMillis(500));
+        assertThat(config.mix()).isEqualTo(Map.of(Operation.LIST, 3, Operation.COMPLETE, 1));
+    }
+
+    @Test
+    @DisplayName("Should refuse targets that are not local")
+    void testParse_RemoteTarget() {
+        assertThatThrownBy(() -> LoadTestConfig.parse(new String[]{"--target=https://tasks.example.com"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("local instance");
+    }
+
+    @Test
+    @DisplayName("Should reject targets without a host")
+    void testParse_TargetWithoutHost() {
+        assertThatThrownBy(() -> LoadTestConfig.parse(new String[]{"--target=localhost:8080"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("scheme and host");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown operations")
+    void testParse_UnknownOperation() {
+        assertThatThrownBy(() -> LoadTestConfig.parse(new String[]{"--mix=list:1,export:1"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("export");
+    }
+}
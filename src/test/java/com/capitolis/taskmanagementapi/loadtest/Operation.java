@@ -0,0 +1,67 @@
+package com.capitolis.taskmanagementapi.loadtest;
+
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * The REST calls the load generator can make. Each one builds a request with randomized parameters
+ * (status, keyword, task id) so caches and indexes see a realistic spread instead of one hot key.
+ */
+enum Operation {
+
+    LIST {
+        @Override
+        HttpRequest.Builder request(URI base, Random random, long[] ids) {
+            return HttpRequest.newBuilder(base.resolve("/api/tasks?size=50"));
+        }
+    },
+    STATUS {
+        @Override
+        HttpRequest.Builder request(URI base, Random random, long[] ids) {
+            TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+            return HttpRequest.newBuilder(base.resolve("/api/tasks/status/" + status + "?size=50"));
+        }
+    },
+    SEARCH {
+        @Override
+        HttpRequest.Builder request(URI base, Random random, long[] ids) {
+            return HttpRequest.newBuilder(base.resolve("/api/tasks/search?keyword=" + KEYWORDS[random.nextInt(KEYWORDS.length)]));
+        }
+    },
+    COMPLETE {
+        @Override
+        HttpRequest.Builder request(URI base, Random random, long[] ids) {
+            long id = ids.length == 0 ? 1 : ids[random.nextInt(ids.length)];
+            return HttpRequest.newBuilder(base.resolve("/api/tasks/" + id + "/complete"))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody());
+        }
+    };
+
+    // Words used by the seeded titles, so searches hit a mix of common and rare terms
+    static final String[] KEYWORDS = {"fix", "update", "review", "deploy", "write", "test", "meeting", "report", "invoice", "migration"};
+
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    abstract HttpRequest.Builder request(URI base, Random random, long[] ids);
+
+    HttpRequest build(URI base, Random random, long[] ids) {
+        return request(base, random, ids).timeout(TIMEOUT).build();
+    }
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown operation '" + name + "', expected one of list, status, search, complete");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.capitolis.taskmanagementapi.logging;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("SlowQueryListener Unit Tests")
+class SlowQueryListenerTest {
+
+    private SlowQueryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        SlowLogProperties properties = new SlowLogProperties();
+        ReflectionTestUtils.setField(properties, "sqlThresholdMs", 100L);
+        ReflectionTestUtils.setField(properties, "sampleRate", 0.0);
+        listener = new SlowQueryListener(properties);
+    }
+
+    @Test
+    @DisplayName("Should log statements above the threshold with their bind values")
+    void testAfterQuery_SlowStatement(CapturedOutput output) throws Exception {
+        // Act
+        listener.afterQuery(execution(250), List.of(query("select * from tasks where id=?", 42L)));
+
+        // Assert
+        assertThat(output).contains("Slow SQL 250 ms");
+        assertThat(output).contains("select * from tasks where id=? params [42]");
+    }
+
+    @Test
+    @DisplayName("Should not log fast statements when sampling is off")
+    void testAfterQuery_FastStatement(CapturedOutput output) throws Exception {
+        // Act
+        listener.afterQuery(execution(3), List.of(query("select * from tasks where id=?", 7L)));
+
+        // Assert
+        assertThat(output).doesNotContain("select * from tasks where id=?");
+    }
+
+    private static ExecutionInfo execution(long elapsedMs) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMs);
+        execution.setSuccess(true);
+        return execution;
+    }
+
+    private static QueryInfo query(String sql, long id) throws NoSuchMethodException {
+        QueryInfo query = new QueryInfo(sql);
+        ParameterSetOperation bind = new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{1, id});
+        query.getParametersList().add(List.of(bind));
+        return query;
+    }
+}
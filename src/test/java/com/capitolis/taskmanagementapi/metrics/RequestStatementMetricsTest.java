@@ -0,0 +1,74 @@
+package com.capitolis.taskmanagementapi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that API requests record their SQL statement count and that the pool metrics are registered.
+ * (Tests use the in-memory meter registry - exporting to Prometheus is switched off in Spring Boot tests.)
+ */
+@SpringBootTest(properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false"
+})
+@DisplayName("Request statement metrics tests")
+class RequestStatementMetricsTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks should record its statements under the URI template")
+    void listRequest_RecordsStatements() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+
+        // Assert - the page query is one statement
+        DistributionSummary statements = meterRegistry.find("tasks.http.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/tasks")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isPositive();
+        assertThat(statements.max()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("hikaricp.connections").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Statement inspector should count per thread")
+    void inspector_CountsStatements() {
+        // Arrange
+        StatementCountingInspector inspector = new StatementCountingInspector();
+        StatementCountingInspector.reset();
+
+        // Act
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+
+        // Assert
+        assertThat(StatementCountingInspector.current()).isEqualTo(2);
+        StatementCountingInspector.clear();
+    }
+}
@@ -0,0 +1,152 @@
+package com.capitolis.taskmanagementapi.reactive;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The reactive routes against the blocking endpoints they mirror: same JSON for the same request, same 404 and 400s.
+ * Both servers run in one application on its own database (the R2DBC url points at the JDBC one).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:reactiveroutestest",
+        "app.reactive.enabled=true",
+        "app.reactive.port=0",
+        "app.reactive.url=r2dbc:h2:mem:///reactiveroutestest"
+})
+@DisplayName("Reactive route tests")
+class ReactiveTaskRoutesTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReactiveTaskServer reactiveServer;
+
+    @Autowired
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        if (taskService.getAllTasks().isEmpty()) {
+            taskService.createTasks(List.of(
+                    task("Reach 100% coverage", TaskStatus.TODO),
+                    task("Reach 100 percent uptime", TaskStatus.IN_PROGRESS),
+                    task("Rename snake_case columns", TaskStatus.IN_PROGRESS),
+                    task("Rename snakeXcase columns", TaskStatus.DONE),
+                    task("Write report", TaskStatus.TODO)));
+        }
+    }
+
+    @Test
+    @DisplayName("Cursor pages should match the blocking endpoint, page after page")
+    void pages_MatchBlocking() throws Exception {
+        String cursor = "";
+        int pages = 0;
+        do {
+            JsonNode page = assertSameJson("?size=2" + cursor);
+            cursor = page.path("hasMore").asBoolean() ? "&cursor=" + page.path("nextCursor").asString() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Status pages and single tasks should match the blocking endpoints")
+    void statusAndById_MatchBlocking() throws Exception {
+        JsonNode inProgress = assertSameJson("/status/IN_PROGRESS?size=10");
+        assertThat(inProgress.path("items")).hasSize(2);
+
+        long id = inProgress.path("items").get(0).path("id").asLong();
+        assertSameJson("/" + id);
+    }
+
+    @Test
+    @DisplayName("Search should match the keyword literally, like the blocking endpoint")
+    void search_MatchesBlockingAndEscapesWildcards() throws Exception {
+        JsonNode percent = assertSameJson("/search?keyword=100%25");
+        assertThat(percent.path("items")).hasSize(1);
+        assertThat(percent.path("items").get(0).path("title").asString()).isEqualTo("Reach 100% coverage");
+
+        JsonNode underscore = assertSameJson("/search?keyword=SNAKE_case");
+        assertThat(underscore.path("items")).hasSize(1);
+        assertThat(underscore.path("items").get(0).path("title").asString()).isEqualTo("Rename snake_case columns");
+
+        assertThat(assertSameJson("/search?keyword=").path("items")).hasSize(5); // Empty keyword matches every task
+    }
+
+    @Test
+    @DisplayName("A missing task should be 404 on both paths")
+    void missingTask_NotFound() throws Exception {
+        assertSameStatus("/987654321", 404);
+    }
+
+    @Test
+    @DisplayName("Bad ids, statuses, cursors and a missing keyword should be 400 on both paths")
+    void badRequests_BadRequest() throws Exception {
+        assertSameStatus("/not-a-number", 400);
+        assertSameStatus("/status/SOMEDAY", 400);
+        assertSameStatus("/status/in_progress", 400);
+        assertSameStatus("?cursor=not-a-cursor", 400);
+        assertSameStatus("/search", 400);
+    }
+
+    // GETs the same path from both servers, asserts 200 and equal JSON, and returns it
+    private JsonNode assertSameJson(String path) throws Exception {
+        HttpResponse<String> blocking = get(blockingUrl(path));
+        HttpResponse<String> reactive = get(reactiveUrl(path));
+
+        assertThat(blocking.statusCode()).as("blocking %s", path).isEqualTo(200);
+        assertThat(reactive.statusCode()).as("reactive %s", path).isEqualTo(200);
+        JsonNode expected = jsonMapper.readTree(blocking.body());
+        assertThat(jsonMapper.readTree(reactive.body())).as(path).isEqualTo(expected);
+        return expected;
+    }
+
+    private void assertSameStatus(String path, int status) throws Exception {
+        assertThat(get(blockingUrl(path)).statusCode()).as("blocking %s", path).isEqualTo(status);
+        assertThat(get(reactiveUrl(path)).statusCode()).as("reactive %s", path).isEqualTo(status);
+    }
+
+    private HttpResponse<String> get(String url) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).header("Accept", "application/json").build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String blockingUrl(String path) {
+        return "http://localhost:" + port + "/api/tasks" + path;
+    }
+
+    private String reactiveUrl(String path) {
+        return "http://localhost:" + reactiveServer.getPort() + ReactiveTaskRoutes.BASE_PATH + path;
+    }
+
+    private static Task task(String title, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        return task;
+    }
+}
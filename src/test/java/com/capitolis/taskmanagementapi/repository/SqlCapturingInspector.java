@@ -0,0 +1,34 @@
+package com.capitolis.taskmanagementapi.repository;
+
+import com.capitolis.taskmanagementapi.metrics.StatementCountingInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StatementCountingInspector that also keeps the SQL Hibernate prepares on the current thread, between start() and
+ * stop(). Swapped in by TaskQueryPlanTest through spring.jpa.properties.hibernate.session_factory.statement_inspector.
+ */
+public class SqlCapturingInspector extends StatementCountingInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return super.inspect(sql);
+    }
+
+    static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured;
+    }
+}
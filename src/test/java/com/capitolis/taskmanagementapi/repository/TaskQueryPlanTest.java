@@ -0,0 +1,146 @@
+package com.capitolis.taskmanagementapi.repository;
+
+import com.capitolis.taskmanagementapi.dto.BulkCreateResult;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calls each TaskRepository query, captures the SQL Hibernate actually generated (SqlCapturingInspector), and runs
+ * EXPLAIN on it - the test fails if H2 plans a full table scan. Parameters stay unbound: H2 plans "?" without values.
+ * Writes run in a transaction that is rolled back, so every case sees the same seeded rows.
+
+ * Not covered on purpose: the title searches without an id range (a leading-wildcard LIKE can't use a B-tree index -
+ * that's what the full-text search index is for), the NDJSON export and countByStatus, which read every row by
+ * definition. No repository query filters on updated_at / created_at, so their indexes aren't checked here.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:queryplantest",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.capitolis.taskmanagementapi.repository.SqlCapturingInspector"
+})
+@DisplayName("Task query plan tests")
+class TaskQueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> seededIds = new ArrayList<>();
+
+    // Enough rows, with realistic statistics, for the H2 cost model to prefer indexes
+    @BeforeAll
+    void seed() {
+        List<Task> tasks = new ArrayList<>();
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < 3_000; i++) {
+            Task task = new Task();
+            task.setTitle("Plan test task " + i);
+            task.setStatus(statuses[i % statuses.length]);
+            task.setDueDate(LocalDateTime.now().plusDays(i % 90));
+            tasks.add(task);
+        }
+        taskService.createTasks(tasks).results().stream()
+                .map(BulkCreateResult::id)
+                .filter(Objects::nonNull)
+                .forEach(seededIds::add);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void removeSeededRows() {
+        taskService.deleteTasks(seededIds);
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                query("findById", repository -> repository.findById(1L)),
+                query("findAllById", repository -> repository.findAllById(ids)),
+                query("findByIdIn (summary)", repository -> repository.findByIdIn(ids, TaskSummary.class)),
+                query("findByStatus", repository -> repository.findByStatus(TaskStatus.TODO)),
+                query("findByIdGreaterThanOrderByIdAsc",
+                        repository -> repository.findByIdGreaterThanOrderByIdAsc(100L, Limit.of(51))),
+                query("findByIdGreaterThanOrderByIdAsc (summary)",
+                        repository -> repository.findByIdGreaterThanOrderByIdAsc(100L, Limit.of(51), TaskSummary.class)),
+                query("findByStatusAndIdGreaterThanOrderByIdAsc",
+                        repository -> repository.findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus.TODO, 100L, Limit.of(51))),
+                query("findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc",
+                        repository -> repository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc("plan", 100L, Limit.of(51))),
+                query("findUpdatedAtById", repository -> repository.findUpdatedAtById(1L)),
+                query("updateFields",
+                        repository -> repository.updateFields(1L, "title", null, TaskStatus.DONE, null, now)),
+                query("updateStatusById", repository -> repository.updateStatusById(1L, TaskStatus.DONE, now)),
+                query("updateStatusByIds",
+                        repository -> repository.updateStatusByIds(ids, TaskStatus.TODO, TaskStatus.DONE, now)),
+                query("updateStatusByFilter (status + dueBefore)",
+                        repository -> repository.updateStatusByFilter(TaskStatus.TODO, now, null, TaskStatus.DONE, now)),
+                query("updateStatusByFilter (dueBefore)",
+                        repository -> repository.updateStatusByFilter(null, now.minusDays(30), null, TaskStatus.DONE, now)),
+                query("deleteTaskById", repository -> repository.deleteTaskById(1L)),
+                query("deleteTasksByIds", repository -> repository.deleteTasksByIds(ids))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Repository query should use an index")
+    void queryUsesIndex(String repositoryMethod, Consumer<TaskRepository> call) {
+        // Act - capture what Hibernate sends, then roll back
+        List<String> statements = transactionTemplate.execute(status -> {
+            SqlCapturingInspector.start();
+            try {
+                call.accept(taskRepository);
+            } finally {
+                status.setRollbackOnly();
+            }
+            return SqlCapturingInspector.stop();
+        });
+
+        // Assert
+        assertThat(statements).as("SQL generated by %s", repositoryMethod).isNotEmpty();
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertThat(plan)
+                    .as("EXPLAIN plan of %s:%n%s", repositoryMethod, plan)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private static Arguments query(String name, Consumer<TaskRepository> call) {
+        return Arguments.of(name, call);
+    }
+}
@@ -0,0 +1,243 @@
+package com.capitolis.taskmanagementapi.routing;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routing against two real H2 databases (primary + one replica kept in sync by ReplicationStandIn).
+ * The replica trails by REPLICATION_DELAY_MS and max-lag is large, so a fresh write is reliably missing on the replica.
+ */
+@SpringBootTest(properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:routingtest",
+        "app.routing.enabled=true",
+        "app.routing.replica-urls=jdbc:h2:mem:routingtest-replica",
+        "app.routing.replication-delay-ms=" + ReadWriteRoutingTest.REPLICATION_DELAY_MS,
+        "app.routing.max-lag-ms=60000"
+})
+@DisplayName("Read/write routing tests")
+class ReadWriteRoutingTest {
+
+    static final long REPLICATION_DELAY_MS = 500;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ReplicationStandIn replication;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void waitForReplica() {
+        waitUntil(() -> replication.isWithinLag(0, 0)); // Initialized and caught up with earlier tests
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(readYourWritesFilter).build();
+    }
+
+    @Test
+    @DisplayName("A replica read should not see a new task until it has been replicated")
+    void replicaRead_SeesWriteAfterReplication() {
+        // Act
+        Task created = taskService.createTask(newTask("replicated later"));
+
+        // Assert - the replica is still behind, then catches up
+        assertThat(ids(taskService.getAllTasks())).doesNotContain(created.getId());
+        assertThat(ids(taskService.getTasksByStatus(created.getStatus()))).as("status").doesNotContain(created.getId());
+        assertThat(ids(taskService.getTasksPage(null, 500).items())).as("page").doesNotContain(created.getId());
+        waitUntil(() -> ids(taskService.getAllTasks()).contains(created.getId()));
+        assertThat(replication.lagMillis(0)).isZero();
+    }
+
+    @Test
+    @DisplayName("Within a request, reads after a write should go to the primary (read-your-writes)")
+    void requestAfterWrite_ReadsFromPrimary() {
+        // Arrange
+        RoutingContext.beginRequest();
+        try {
+            // Act
+            Task created = taskService.createTask(newTask("read your writes"));
+            List<Task> tasks = taskService.getTasksByStatus(created.getStatus());
+
+            // Assert
+            assertThat(ids(tasks)).contains(created.getId());
+        } finally {
+            RoutingContext.endRequest();
+        }
+    }
+
+    @Test
+    @DisplayName("Reads outside @ReadFromReplica methods should always see the primary")
+    void unannotatedRead_ReadsFromPrimary() {
+        // Act
+        Task created = taskService.createTask(newTask("conditional GET"));
+
+        // Assert - the updatedAt read behind conditional GETs isn't routed to the replica
+        assertThat(taskService.getTaskUpdatedAt(created.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("POST then GET with the read-after cookie should find the new task before the replica has it")
+    void postThenGet_WithCookie_ReadsOwnWrite() throws Exception {
+        // Act - a bulk create of more than one task isn't written through to the cache, so the GET goes to a database
+        MvcResult created = mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"posted\"},{\"title\":\"posted too\"}]"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.results[0].id")).longValue();
+        Cookie readAfter = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // Assert - without the cookie the lagging replica answers, with it the primary does
+        assertThat(readAfter).isNotNull();
+        mockMvc.perform(get("/api/tasks/{id}", id)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tasks/{id}", id).cookie(readAfter)).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks should be served by the replica, with an ETag that only changes once the replica has the write")
+    void listPage_ReadsFromReplica() throws Exception {
+        // Arrange
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"listed\",\"status\":\"TODO\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.id")).longValue();
+        Cookie readAfter = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // Act - without the cookie the lagging replica answers, with it the primary does
+        MvcResult stale = mockMvc.perform(get("/api/tasks").param("size", "500")).andExpect(status().isOk()).andReturn();
+        MvcResult own = mockMvc.perform(get("/api/tasks").param("size", "500").cookie(readAfter)).andExpect(status().isOk()).andReturn();
+
+        // Assert
+        assertThat(pageIds(stale)).doesNotContain(id);
+        assertThat(pageIds(own)).contains(id);
+
+        // The replica's tag doesn't claim the new task: still 304 while the replica lags, a new page once it caught up
+        String etag = stale.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/tasks").param("size", "500").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        waitUntil(() -> replication.isWithinLag(0, 0));
+        MvcResult fresh = mockMvc.perform(get("/api/tasks").param("size", "500").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(pageIds(fresh)).contains(id);
+    }
+
+    @Test
+    @DisplayName("DELETE then GET with the read-after cookie should not see the row a lagging replica put in the cache")
+    void deleteThenGet_WithCookie_SkipsStaleCache() throws Exception {
+        // Arrange
+        Task task = taskService.createTask(newTask("deleted soon"));
+        waitUntil(() -> replication.isWithinLag(0, 0));
+
+        // Act
+        MvcResult deleted = mockMvc.perform(delete("/api/tasks/{id}", task.getId()))
+                .andExpect(status().isNoContent())
+                .andReturn();
+        Cookie readAfter = deleted.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // Assert - another client reads the old row from the replica (and caches it), the deleting client doesn't
+        mockMvc.perform(get("/api/tasks/{id}", task.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()).cookie(readAfter)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST then /lookup with the read-after cookie should find the new tasks, though the lookup runs on a worker thread")
+    void postThenLookup_WithCookie_ReadsOwnWrite() throws Exception {
+        // Arrange - bulk created, so not in the cache
+        MvcResult created = mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"looked up\"},{\"title\":\"looked up too\"}]"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        List<Number> ids = JsonPath.read(created.getResponse().getContentAsString(), "$.results[*].id");
+        String idList = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        Cookie readAfter = created.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // Act
+        MvcResult withoutCookie = mockMvc.perform(get("/api/tasks/lookup").param("ids", idList))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult withCookie = mockMvc.perform(get("/api/tasks/lookup").param("ids", idList).cookie(readAfter))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert - the lagging replica answers the other client, the primary the one that wrote
+        mockMvc.perform(asyncDispatch(withoutCookie)).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(asyncDispatch(withCookie)).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("A read-after cookie from an earlier run should be ignored")
+    void cookieFromEarlierRun_Ignored() throws Exception {
+        // Arrange - bulk created, so not in the cache
+        Long id = taskService.createTasks(List.of(newTask("other epoch"), newTask("other epoch too"))).results().getFirst().id();
+        Cookie stale = new Cookie(ReadYourWritesFilter.COOKIE_NAME, (replication.epoch() - 1) + "." + Long.MAX_VALUE);
+
+        // Act & Assert - the lagging replica is still allowed to answer
+        mockMvc.perform(get("/api/tasks/{id}", id).cookie(stale)).andExpect(status().isNotFound());
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return task;
+    }
+
+    private static List<Long> pageIds(MvcResult page) throws Exception {
+        List<Number> ids = JsonPath.read(page.getResponse().getContentAsString(), "$.items[*].id");
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out waiting for replication").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
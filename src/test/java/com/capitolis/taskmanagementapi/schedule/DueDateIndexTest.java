@@ -0,0 +1,127 @@
+package com.capitolis.taskmanagementapi.schedule;
+
+import com.capitolis.taskmanagementapi.dto.DueTask;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DueDateIndex Unit Tests")
+class DueDateIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    private DueDateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DueDateIndex(Duration.ofHours(1));
+        index.replaceAll(List.of(
+                task(1L, TaskStatus.TODO, NOW.minusDays(2)),
+                task(2L, TaskStatus.IN_PROGRESS, NOW.minusHours(1)),
+                task(3L, TaskStatus.TODO, NOW.plusMinutes(30)),
+                task(4L, TaskStatus.TODO, NOW.plusHours(5)),
+                task(5L, TaskStatus.DONE, NOW.minusDays(1)), // Done - never tracked
+                task(6L, TaskStatus.TODO, null)               // No due date - never tracked
+        ), NOW);
+    }
+
+    @Test
+    @DisplayName("Should return overdue tasks, most overdue first")
+    void testOverdue() {
+        assertThat(index.overdue(NOW, 10)).extracting(DueTask::id).containsExactly(1L, 2L);
+        assertThat(index.overdue(NOW, 1)).extracting(DueTask::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should return tasks due within the window, soonest first")
+    void testUpcoming() {
+        assertThat(index.upcoming(NOW, NOW.plusHours(1), 10)).extracting(DueTask::id).containsExactly(3L);
+        assertThat(index.upcoming(NOW, NOW.plusDays(1), 10)).extracting(DueTask::id).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should not re-announce what was already due (or due soon) when loaded")
+    void testReplaceAll_SkipsElapsedTimers() {
+        DueDateIndex.Fired fired = index.fire(NOW);
+
+        assertThat(fired.overdue()).isEmpty();
+        assertThat(fired.dueSoon()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fire due-soon, then overdue, once each")
+    void testFire_EachTimerOnce() {
+        assertThat(index.fire(NOW.plusMinutes(31)).overdue()).extracting(DueTask::id).containsExactly(3L);
+
+        DueDateIndex.Fired soon = index.fire(NOW.plusHours(4).plusMinutes(1));
+        assertThat(soon.dueSoon()).extracting(DueTask::id).containsExactly(4L);
+        assertThat(soon.overdue()).isEmpty();
+
+        assertThat(index.fire(NOW.plusHours(6)).overdue()).extracting(DueTask::id).containsExactly(4L);
+        assertThat(index.fire(NOW.plusDays(1)).overdue()).isEmpty();
+        assertThat(index.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop tasks when they are completed or removed")
+    void testUpsertDoneAndRemove() {
+        index.upsert(task(1L, TaskStatus.DONE, NOW.minusDays(2)));
+        index.remove(3L);
+
+        assertThat(index.overdue(NOW, 10)).extracting(DueTask::id).containsExactly(2L);
+        assertThat(index.upcoming(NOW, NOW.plusDays(1), 10)).extracting(DueTask::id).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should move a task and its timers when its due date changes")
+    void testUpsert_NewDueDate() {
+        index.fire(NOW);
+
+        index.upsert(task(4L, TaskStatus.TODO, NOW.minusMinutes(5))); // Moved into the past - fires once on the next tick
+
+        assertThat(index.overdue(NOW, 10)).extracting(DueTask::id).containsExactly(1L, 2L, 4L);
+        assertThat(index.fire(NOW).overdue()).extracting(DueTask::id).containsExactly(4L);
+        assertThat(index.fire(NOW.plusHours(6)).overdue()).extracting(DueTask::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should keep timers when only the title changes")
+    void testUpsert_SameDueDate() {
+        index.fire(NOW);
+
+        index.upsert(new DueTask(2L, "Renamed", TaskStatus.IN_PROGRESS, NOW.minusHours(1)));
+
+        assertThat(index.fire(NOW).overdue()).isEmpty(); // Already overdue at load, still not re-announced
+        assertThat(index.overdue(NOW, 10)).extracting(DueTask::title).contains("Renamed");
+    }
+
+    private static DueTask task(Long id, TaskStatus status, LocalDateTime dueDate) {
+        return new DueTask(id, "Task " + id, status, dueDate);
+    }
+
+    @Test
+    @DisplayName("A runtime reload should keep timers that came due since the last tick")
+    void testSync_KeepsPendingTimers() {
+        index.fire(NOW);
+
+        // 3 became overdue (not fired yet), 4 moved into the past, 2 was completed, 7 is new and overdue
+        index.sync(List.of(
+                task(1L, TaskStatus.TODO, NOW.minusDays(2)),
+                task(3L, TaskStatus.IN_PROGRESS, NOW.plusMinutes(30)),
+                task(4L, TaskStatus.TODO, NOW.minusMinutes(5)),
+                task(7L, TaskStatus.TODO, NOW.minusMinutes(10))));
+
+        DueDateIndex.Fired fired = index.fire(NOW.plusMinutes(31));
+        assertThat(fired.overdue()).extracting(DueTask::id).containsExactly(7L, 4L, 3L);
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.pendingTimers()).isZero(); // 1 already fired before the reload - it isn't announced again
+    }
+}
@@ -0,0 +1,120 @@
+package com.capitolis.taskmanagementapi.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskSearchIndex Unit Tests")
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex();
+        index.index(1L, "Learn Spring Boot", "Read the reference guide");
+        index.index(2L, "Write report", "Summarize what we learned about spring data");
+        index.index(3L, "Plan sprint", "Pick stories for the next iteration");
+    }
+
+    @Test
+    @DisplayName("Should search title and description, ranking title matches first")
+    void testSearch_TitleRanksAboveDescription() {
+        SearchResults results = index.search("spring", 0, 10);
+
+        assertThat(results.total()).isEqualTo(2);
+        assertThat(results.hits()).extracting(SearchHit::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should match word prefixes")
+    void testSearch_Prefix() {
+        SearchResults results = index.search("spr", 0, 10);
+
+        assertThat(results.hits()).extracting(SearchHit::id).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should require every query word to match")
+    void testSearch_AllWordsMustMatch() {
+        SearchResults results = index.search("spring boo", 0, 10);
+
+        assertThat(results.hits()).extracting(SearchHit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should page through ranked results")
+    void testSearch_Pagination() {
+        SearchResults page1 = index.search("spr", 0, 2);
+        SearchResults page2 = index.search("spr", 2, 2);
+
+        assertThat(page1.total()).isEqualTo(3);
+        assertThat(page1.hits()).hasSize(2);
+        assertThat(page2.hits()).hasSize(1);
+        assertThat(page2.hits().getFirst().id()).isNotIn(page1.hits().get(0).id(), page1.hits().get(1).id());
+    }
+
+    @Test
+    @DisplayName("Should forget old words when a task is re-indexed or removed")
+    void testIndex_UpdateAndRemove() {
+        index.index(1L, "Learn Kotlin", null);
+        index.remove(2L);
+
+        assertThat(index.search("spring", 0, 10).total()).isZero();
+        assertThat(index.search("kotlin", 0, 10).hits()).extracting(SearchHit::id).containsExactly(1L);
+
+        // Indexing a removed task again must not bring back its old postings
+        index.index(2L, "Write report", null);
+        assertThat(index.search("spring", 0, 10).total()).isZero();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should survive many updates of the same task (posting list compaction)")
+    void testIndex_Compaction() {
+        for (int i = 0; i < 1_000; i++) {
+            index.index(5L, "Recurring chore " + i, "weekly");
+        }
+
+        assertThat(index.search("weekly", 0, 10).hits()).extracting(SearchHit::id).containsExactly(5L);
+        assertThat(index.search("chore 999", 0, 10).hits()).extracting(SearchHit::id).containsExactly(5L);
+        assertThat(index.search("chore 998", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expand a short prefix to its most frequent words and say the results are truncated")
+    void testSearch_PrefixExpansionLimit() {
+        // "zz" is a prefix of MAX_PREFIX_EXPANSIONS + 1 words: zzcommon is in 3 tasks, every other word in 1
+        for (long id = 10; id < 13; id++) {
+            index.index(id, "zzcommon", null);
+        }
+        for (int i = 0; i < TaskSearchIndex.MAX_PREFIX_EXPANSIONS; i++) {
+            index.index(100L + i, "zzrare" + i, null);
+        }
+
+        SearchResults results = index.search("zz", 0, 100);
+
+        // One rare word was skipped, the frequent one never is
+        assertThat(results.truncated()).isTrue();
+        assertThat(results.total()).isEqualTo(3 + TaskSearchIndex.MAX_PREFIX_EXPANSIONS - 1);
+        assertThat(results.hits()).extracting(SearchHit::id).contains(10L, 11L, 12L);
+        assertThat(index.search("zzrare", 0, 100).truncated()).isFalse();
+        assertThat(index.search("spr", 0, 10).truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should always search the exact word, even when the prefix expansion is truncated")
+    void testSearch_ExactWordKeptWhenTruncated() {
+        index.index(10L, "zz", null);
+        for (int i = 0; i < TaskSearchIndex.MAX_PREFIX_EXPANSIONS + 5; i++) {
+            index.index(100L + i, "zz" + i + " zzz", null); // Every longer word is more frequent than "zz" itself
+        }
+
+        SearchResults results = index.search("zz", 0, 1);
+
+        assertThat(results.truncated()).isTrue();
+        assertThat(results.hits()).extracting(SearchHit::id).containsExactly(10L); // Exact match ranks first
+    }
+}
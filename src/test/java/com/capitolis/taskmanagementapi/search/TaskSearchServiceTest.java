@@ -0,0 +1,85 @@
+package com.capitolis.taskmanagementapi.search;
+
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskSearchService Unit Tests")
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private TaskSearchService searchService;
+
+    @Test
+    @DisplayName("Writes committed while the index is rebuilt should win over the rows the rebuild read")
+    void testRebuildIndex_KeepsConcurrentWrites() {
+        // Arrange - the rebuild streams task 1 and 3 as they were before the writes below
+        Task oldFirst = task(1L, "Old title");
+        Task oldThird = task(3L, "Deleted soon");
+        when(taskRepository.streamForExport(null, null)).thenReturn(Stream.of(oldFirst, oldThird).peek(task -> {
+            if (task == oldFirst) { // Writes committing while the rows are streamed
+                searchService.onTaskChanged(TaskChangedEvent.updated(task(1L, "New title"), TaskStatus.TODO));
+                searchService.onTaskChanged(TaskChangedEvent.created(task(2L, "Created meanwhile")));
+                searchService.onTaskChanged(TaskChangedEvent.deleted(List.of(3L), Map.of(TaskStatus.TODO, 1L)));
+            }
+        }));
+
+        // Act
+        searchService.rebuildIndex();
+
+        // Assert
+        assertThat(searchService.indexedTasks()).isEqualTo(2);
+        assertThat(searchService.search("new title", 0, 10).total()).isEqualTo(1);
+        assertThat(searchService.search("old", 0, 10).total()).isZero();
+        assertThat(searchService.search("meanwhile", 0, 10).total()).isEqualTo(1);
+        assertThat(searchService.search("deleted", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("A failed rebuild should keep the current index, including the writes made during the rebuild")
+    void testRebuildIndex_FailureKeepsCurrentIndex() {
+        // Arrange
+        searchService.onTaskChanged(TaskChangedEvent.created(task(1L, "Existing")));
+        when(taskRepository.streamForExport(null, null)).thenReturn(Stream.of(task(1L, "Existing")).peek(task -> {
+            searchService.onTaskChanged(TaskChangedEvent.created(task(2L, "During rebuild")));
+            throw new IllegalStateException("Connection lost");
+        }));
+
+        // Act
+        assertThatThrownBy(() -> searchService.rebuildIndex()).isInstanceOf(IllegalStateException.class);
+
+        // Assert - and later writes go to that index
+        searchService.onTaskChanged(TaskChangedEvent.created(task(3L, "After rebuild")));
+        assertThat(searchService.indexedTasks()).isEqualTo(3);
+    }
+
+    private static Task task(Long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        return task;
+    }
+}
@@ -0,0 +1,139 @@
+package com.capitolis.taskmanagementapi.service;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.TaskDashboard;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.schedule.TaskDueDateScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncTaskService Unit Tests")
+class AsyncTaskServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private TaskDueDateScheduler dueDateScheduler;
+
+    private AsyncTaskService asyncTaskService;
+
+    @AfterEach
+    void tearDown() {
+        asyncTaskService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run the status queries of the dashboard in parallel")
+    void testGetDashboard_Parallel() throws Exception {
+        // Arrange - every status query waits until all three have started, which only works if they run concurrently
+        asyncTaskService = new AsyncTaskService(taskService, taskStatusCounters, dueDateScheduler, 3, 10, 5_000);
+        CountDownLatch allStarted = new CountDownLatch(TaskStatus.values().length);
+        when(taskService.getTaskSummariesByStatusPage(any(), isNull(), eq(5))).thenAnswer(invocation -> {
+            allStarted.countDown();
+            assertThat(allStarted.await(2, TimeUnit.SECONDS)).isTrue();
+            TaskStatus status = invocation.getArgument(0);
+            return new CursorPage<>(List.of(new TaskSummary(1L, status.name(), status)), null, false);
+        });
+        when(taskStatusCounters.snapshot()).thenReturn(Map.of(TaskStatus.TODO, 1L));
+        when(dueDateScheduler.getOverdue(5)).thenReturn(List.of());
+
+        // Act
+        TaskDashboard dashboard = asyncTaskService.getDashboard(5, 5).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(dashboard.byStatus()).containsOnlyKeys(TaskStatus.values());
+        assertThat(dashboard.byStatus().get(TaskStatus.DONE).items()).extracting(TaskSummary::title).containsExactly("DONE");
+        assertThat(dashboard.counts()).containsEntry(TaskStatus.TODO, 1L);
+    }
+
+    @Test
+    @DisplayName("Should look up any number of ids with a single worker call")
+    void testGetTasksByIds_OneCall() throws Exception {
+        // Arrange - a queue of 1 would reject a per-id fan-out of 1000 ids right away
+        asyncTaskService = new AsyncTaskService(taskService, taskStatusCounters, dueDateScheduler, 1, 1, 5_000);
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().toList();
+        when(taskService.getTasksByIds(ids)).thenAnswer(invocation -> ids.stream().map(id -> {
+            Task task = new Task();
+            task.setId(id);
+            return task;
+        }).toList());
+
+        // Act
+        List<Task> tasks = asyncTaskService.getTasksByIds(ids).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(tasks).hasSize(1000);
+        verify(taskService, times(1)).getTasksByIds(ids);
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fail with a TimeoutException when a lookup is too slow")
+    void testTimeout() {
+        // Arrange
+        asyncTaskService = new AsyncTaskService(taskService, taskStatusCounters, dueDateScheduler, 1, 10, 50);
+        when(taskService.getTaskById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return Optional.empty();
+        });
+
+        // Act
+        CompletableFuture<Optional<Task>> future = asyncTaskService.getTaskById(1L);
+
+        // Assert
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when the executor queue is full")
+    void testRejectedWhenQueueFull() throws Exception {
+        // Arrange - one worker blocked, one call waiting in the queue of size 1
+        asyncTaskService = new AsyncTaskService(taskService, taskStatusCounters, dueDateScheduler, 1, 1, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskService.getTaskById(anyLong())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        CompletableFuture<Optional<Task>> running = asyncTaskService.getTaskById(1L);
+        verify(taskService, timeout(5_000)).getTaskById(1L);
+        CompletableFuture<Optional<Task>> queued = asyncTaskService.getTaskById(2L);
+
+        // Act
+        CompletableFuture<Optional<Task>> rejected = asyncTaskService.getTaskById(3L);
+        release.countDown();
+
+        // Assert
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.capitolis.taskmanagementapi.service;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskExportService Unit Tests")
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should stop reading and close the database stream when the client disconnects")
+    void testExportNdjson_ClientAbortClosesStream() {
+        // Arrange - 10,000 rows, but the client goes away after the first write
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicInteger rowsRead = new AtomicInteger();
+        when(taskRepository.streamForExport(null, null)).thenReturn(LongStream.rangeClosed(1, 10_000)
+                .mapToObj(id -> {
+                    rowsRead.incrementAndGet();
+                    Task task = new Task();
+                    task.setId(id);
+                    task.setTitle("Task " + id);
+                    return task;
+                })
+                .onClose(() -> closed.set(true)));
+        TaskExportService exportService = new TaskExportService(taskRepository, entityManager, JsonMapper.builder().build());
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportService.exportNdjson(null, " ", new DisconnectingOutputStream()))
+                .isInstanceOf(IOException.class);
+        assertThat(closed).isTrue();
+        assertThat(rowsRead.get()).isLessThanOrEqualTo(2);
+    }
+
+    // Accepts the first write, then fails like a socket whose client has gone away
+    private static final class DisconnectingOutputStream extends OutputStream {
+        private int writes;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (++writes > 1) {
+                throw new IOException("Broken pipe");
+            }
+        }
+    }
+}
@@ -1,5 +1,15 @@
 package com.capitolis.taskmanagementapi.service;
 
+import com.capitolis.taskmanagementapi.cache.CachedTask;
+import com.capitolis.taskmanagementapi.cache.TaskCacheConfig;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResponse;
+import com.capitolis.taskmanagementapi.dto.BulkCreateResult;
+import com.capitolis.taskmanagementapi.dto.BulkStatusUpdateRequest;
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.exception.TaskNotFoundException;
 import com.capitolis.taskmanagementapi.model.Task;
 import com.capitolis.taskmanagementapi.model.TaskStatus;
 import com.capitolis.taskmanagementapi.repository.TaskRepository;
@@ -10,16 +20,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class) // annotation is used to enable Mockito support in JUnit 5 tests. It allows us to use Mockito annotations like @Mock and @InjectMocks without needing to manually initialize them. When the test class is run, Mockito will automatically create mock instances for the annotated fields and inject them where needed.
@@ -29,6 +50,15 @@ class TaskServiceTest {
     @Mock // annotation is used to create a mock instance of the TaskRepository interface. This allows us to simulate the behavior of the repository without needing a real database connection.
     private TaskRepository taskRepository;
 
+    @Mock // TaskService publishes a TaskChangedEvent after every write
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock // getTasksByIds reads the task cache directly
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
     @InjectMocks // annotation is used to create an instance of TaskService and inject the mocked TaskRepository into it. This allows us to test the TaskService methods in isolation, with the repository behavior controlled by our test setup.
     private TaskService taskService;
 
@@ -74,6 +104,7 @@ class TaskServiceTest {
         assertThat(result.getStatus()).isEqualTo(TaskStatus.TODO);
 
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.created(sampleTask));
     }
 
     @Test
@@ -93,6 +124,44 @@ class TaskServiceTest {
         assertThat(result.getStatus()).isEqualTo(TaskStatus.TODO);
     }
 
+    // ==================== BULK CREATE TESTS ====================
+
+    @Test
+    @DisplayName("Should create valid tasks and reject tasks without a title")
+    void testCreateTasks_PartialSuccess() {
+        // Arrange
+        Task valid1 = new Task();
+        valid1.setTitle("Valid 1");
+        Task invalid = new Task();
+        invalid.setTitle("  ");
+        Task valid2 = new Task();
+        valid2.setTitle("Valid 2");
+        valid2.setStatus(null);
+
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> saved = invocation.getArgument(0);
+            long id = 100;
+            for (Task task : saved) {
+                task.setId(id++);
+            }
+            return saved;
+        });
+
+        // Act
+        BulkCreateResponse response = taskService.createTasks(Arrays.asList(valid1, invalid, valid2));
+
+        // Assert
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.results()).extracting(BulkCreateResult::outcome).containsExactly(
+                BulkCreateResult.Outcome.CREATED, BulkCreateResult.Outcome.REJECTED, BulkCreateResult.Outcome.CREATED);
+        assertThat(response.results().get(2).id()).isEqualTo(101L);
+        assertThat(valid2.getStatus()).isEqualTo(TaskStatus.TODO);
+
+        verify(taskRepository, times(1)).saveAll(anyList());
+        verify(taskRepository, times(1)).flush();
+    }
+
     // ==================== GET ALL TASKS TESTS ====================
 
     @Test
@@ -178,8 +247,8 @@ class TaskServiceTest {
         updatedDetails.setStatus(TaskStatus.IN_PROGRESS);
         updatedDetails.setDueDate(LocalDateTime.now().plusDays(7));
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(sampleTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(sampleTask);
+        when(taskRepository.updateFields(eq(1L), eq("Updated Title"), eq("Updated Description"),
+                eq(TaskStatus.IN_PROGRESS), eq(updatedDetails.getDueDate()), any(LocalDateTime.class))).thenReturn(Optional.of(sampleTask));
 
         // Act
         Task result = taskService.updateTask(1L, updatedDetails);
@@ -190,8 +259,31 @@ class TaskServiceTest {
         assertThat(result.getDescription()).isEqualTo("Updated Description");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
 
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, never()).findById(anyLong()); // The result is built from the old row the UPDATE returned, not read back
+        verify(taskRepository, never()).save(any(Task.class)); // The write is a single UPDATE, not a merge
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(result, TaskStatus.TODO));
+        assertThat(TaskChangedEvent.updated(result, TaskStatus.TODO).statusDeltas())
+                .isEqualTo(Map.of(TaskStatus.TODO, -1L, TaskStatus.IN_PROGRESS, 1L));
+    }
+
+    @Test
+    @DisplayName("Should keep the current status when the update has none")
+    void testUpdateTask_WithoutStatus_KeepsStatus() {
+        // Arrange
+        Task updatedDetails = new Task();
+        updatedDetails.setTitle("Updated Title");
+        updatedDetails.setStatus(null);
+
+        when(taskRepository.updateFields(eq(1L), eq("Updated Title"), any(), isNull(), any(), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(sampleTask));
+
+        // Act
+        Task result = taskService.updateTask(1L, updatedDetails);
+
+        // Assert - the counters see no status change
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.TODO);
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(result, TaskStatus.TODO));
+        assertThat(TaskChangedEvent.updated(result, TaskStatus.TODO).statusDeltas()).isEmpty();
     }
 
     @Test
@@ -201,15 +293,35 @@ class TaskServiceTest {
         Task updatedDetails = new Task();
         updatedDetails.setTitle("Updated Title");
 
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.updateFields(eq(999L), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.updateTask(999L, updatedDetails))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Task not found with id: 999");
 
-        verify(taskRepository, times(1)).findById(999L);
+        verify(taskRepository, never()).findById(anyLong()); // 404 from the UPDATE result, no SELECT
         verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should serve cached tasks from the cache and load the rest with one query, in request order")
+    void testGetTasksByIds_CacheHitsAndOneQuery() {
+        // Arrange - 1 is cached, 2 and 3 are not, 3 doesn't exist
+        Task second = new Task();
+        second.setId(2L);
+        when(cacheManager.getCache(TaskCacheConfig.TASKS_CACHE)).thenReturn(cache);
+        when(cache.get(anyLong(), eq(CachedTask.class))).thenAnswer(invocation -> invocation.getArgument(0).equals(1L) ? CachedTask.of(sampleTask) : null);
+        when(taskRepository.findAllById(Set.of(2L, 3L))).thenReturn(List.of(second));
+
+        // Act
+        List<Task> tasks = taskService.getTasksByIds(List.of(3L, 2L, 1L));
+
+        // Assert
+        assertThat(tasks).containsExactly(second, sampleTask);
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(taskRepository, never()).findById(anyLong());
     }
 
     // ==================== DELETE TASK TESTS ====================
@@ -218,30 +330,51 @@ class TaskServiceTest {
     @DisplayName("Should successfully delete a task")
     void testDeleteTask_Success() {
         // Arrange
-        when(taskRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(1L);
+        when(taskRepository.deleteTaskById(1L)).thenReturn(Optional.of(TaskStatus.IN_PROGRESS));
 
         // Act
         taskService.deleteTask(1L);
 
-        // Assert
-        verify(taskRepository, times(1)).existsById(1L);
-        verify(taskRepository, times(1)).deleteById(1L);
+        // Assert - a single DELETE, no existsById / findById round trips
+        verify(taskRepository, times(1)).deleteTaskById(1L);
+        verify(taskRepository, never()).existsById(anyLong());
+        verify(taskRepository, never()).deleteById(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(List.of(1L), Map.of(TaskStatus.IN_PROGRESS, 1L)));
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent task")
     void testDeleteTask_NotFound() {
         // Arrange
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        when(taskRepository.deleteTaskById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.deleteTask(999L))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining("Task not found with id: 999");
 
-        verify(taskRepository, times(1)).existsById(999L);
-        verify(taskRepository, never()).deleteById(anyLong());
+        verify(taskRepository, never()).existsById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should delete many tasks in chunks and sum the deleted rows")
+    void testDeleteTasks_Chunked() {
+        // Arrange - 2500 ids are split into IN lists of 1000, 1000 and 500
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+        when(taskRepository.deleteTasksByIds(anyList())).thenAnswer(invocation ->
+                Collections.nCopies(((List<?>) invocation.getArgument(0)).size() - 1, TaskStatus.TODO));
+
+        // Act
+        int deleted = taskService.deleteTasks(ids);
+
+        // Assert
+        assertThat(deleted).isEqualTo(2497);
+        verify(taskRepository, times(3)).deleteTasksByIds(anyList());
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(ids, Map.of(TaskStatus.TODO, 2497L)));
     }
 
     // ==================== GET TASKS BY STATUS TESTS ====================
@@ -332,14 +465,7 @@ class TaskServiceTest {
     @DisplayName("Should mark task as DONE")
     void testMarkTaskAsComplete_Success() {
         // Arrange
-        sampleTask.setStatus(TaskStatus.TODO);
-
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(sampleTask));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
-            Task saved = invocation.getArgument(0);
-            saved.setStatus(TaskStatus.DONE);
-            return saved;
-        });
+        when(taskRepository.updateStatusById(eq(1L), eq(TaskStatus.DONE), any(LocalDateTime.class))).thenReturn(Optional.of(sampleTask));
 
         // Act
         Task result = taskService.markTaskAsComplete(1L);
@@ -347,19 +473,165 @@ class TaskServiceTest {
         // Assert
         assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE);
 
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).updateStatusById(eq(1L), eq(TaskStatus.DONE), any(LocalDateTime.class));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.completed(result, TaskStatus.TODO));
     }
 
     @Test
     @DisplayName("Should throw exception when marking non-existent task as complete")
     void testMarkTaskAsComplete_NotFound() {
         // Arrange
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.updateStatusById(eq(999L), eq(TaskStatus.DONE), any(LocalDateTime.class))).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.markTaskAsComplete(999L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Task not found with id: 999");
+
+        verify(taskRepository, never()).findById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    // ==================== PAGINATION TESTS ====================
+
+    @Test
+    @DisplayName("Should return a page with a next cursor when more rows exist")
+    void testGetTasksPage_HasMore() {
+        // Arrange - asking for 2 tasks, so the service fetches 3 to detect the next page
+        Task task1 = new Task();
+        task1.setId(1L);
+        Task task2 = new Task();
+        task2.setId(2L);
+        Task task3 = new Task();
+        task3.setId(3L);
+
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(Arrays.asList(task1, task2, task3));
+
+        // Act
+        CursorPage<Task> page = taskService.getTasksPage(null, 2);
+
+        // Assert
+        assertThat(page.items()).containsExactly(task1, task2);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(CursorPage.decodeCursor(page.nextCursor())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should continue after the id encoded in the cursor")
+    void testGetTasksByStatusPage_LastPage() {
+        // Arrange
+        Task task = new Task();
+        task.setId(11L);
+        task.setStatus(TaskStatus.TODO);
+
+        when(taskRepository.findByStatusAndIdGreaterThanOrderByIdAsc(eq(TaskStatus.TODO), eq(10L), any(Limit.class)))
+                .thenReturn(List.of(task));
+
+        // Act
+        CursorPage<Task> page = taskService.getTasksByStatusPage(TaskStatus.TODO, CursorPage.encodeCursor(10L), 5);
+
+        // Assert
+        assertThat(page.items()).containsExactly(task);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should page summaries through the projection query")
+    void testGetTaskSummariesPage_UsesProjection() {
+        // Arrange
+        TaskSummary first = new TaskSummary(1L, "Task 1", TaskStatus.TODO);
+        TaskSummary second = new TaskSummary(2L, "Task 2", TaskStatus.DONE);
+
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2), TaskSummary.class))
+                .thenReturn(List.of(first, second));
+
+        // Act
+        CursorPage<TaskSummary> page = taskService.getTaskSummariesPage(null, 1);
+
+        // Assert
+        assertThat(page.items()).containsExactly(first);
+        assertThat(CursorPage.decodeCursor(page.nextCursor())).isEqualTo(1L);
+        verify(taskRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that was not produced by the API")
+    void testSearchTasksByTitlePage_InvalidCursor() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.searchTasksByTitlePage("spring", "not-a-cursor!", 10))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid cursor");
+
+        verify(taskRepository, never()).findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(any(), anyLong(), any());
+    }
+
+    // ==================== BULK STATUS TESTS ====================
+
+    @Test
+    @DisplayName("Should move tasks by id list with one update")
+    void testUpdateStatus_ByIds() {
+        // Arrange
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(taskRepository.updateStatusByIds(eq(ids), eq(TaskStatus.TODO), eq(TaskStatus.DONE), any(LocalDateTime.class))).thenReturn(2);
+        when(taskRepository.updateStatusByIds(eq(ids), eq(TaskStatus.IN_PROGRESS), eq(TaskStatus.DONE), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        int updated = taskService.updateStatus(new BulkStatusUpdateRequest(ids, null, null, null, TaskStatus.DONE));
+
+        // Assert - one UPDATE per source status, the row counts become exact counter deltas
+        assertThat(updated).isEqualTo(3);
+        verify(taskRepository, never()).updateStatusByFilter(any(), any(), any(), any(), any());
+        TaskChangedEvent expected = TaskChangedEvent.statusChanged(ids, Map.of(TaskStatus.TODO, 2L, TaskStatus.IN_PROGRESS, 1L), TaskStatus.DONE);
+        verify(eventPublisher).publishEvent(expected);
+        assertThat(expected.statusDeltas()).isEqualTo(Map.of(TaskStatus.TODO, -2L, TaskStatus.IN_PROGRESS, -1L, TaskStatus.DONE, 3L));
+    }
+
+    @Test
+    @DisplayName("Should move tasks matching a filter with one update")
+    void testUpdateStatus_ByFilter() {
+        // Arrange
+        LocalDateTime dueBefore = LocalDateTime.now();
+        when(taskRepository.updateStatusByFilter(eq(TaskStatus.IN_PROGRESS), eq(dueBefore), eq(null),
+                eq(TaskStatus.DONE), any(LocalDateTime.class))).thenReturn(42);
+
+        // Act
+        int updated = taskService.updateStatus(
+                new BulkStatusUpdateRequest(null, TaskStatus.IN_PROGRESS, dueBefore, " ", TaskStatus.DONE));
+
+        // Assert - the filtered status is the only source, so a single UPDATE
+        assertThat(updated).isEqualTo(42);
+        verify(taskRepository, times(1)).updateStatusByFilter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should run a filter without status once per source status")
+    void testUpdateStatus_ByFilterWithoutStatus() {
+        // Arrange
+        LocalDateTime dueBefore = LocalDateTime.now();
+        when(taskRepository.updateStatusByFilter(eq(TaskStatus.TODO), eq(dueBefore), eq(null),
+                eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(4);
+        when(taskRepository.updateStatusByFilter(eq(TaskStatus.DONE), eq(dueBefore), eq(null),
+                eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        int updated = taskService.updateStatus(new BulkStatusUpdateRequest(null, null, dueBefore, null, TaskStatus.IN_PROGRESS));
+
+        // Assert
+        assertThat(updated).isEqualTo(5);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.statusChanged(null,
+                Map.of(TaskStatus.TODO, 4L, TaskStatus.DONE, 1L), TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    @DisplayName("Should refuse a bulk status update without ids or filter")
+    void testUpdateStatus_NoCriteria() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateStatus(new BulkStatusUpdateRequest(List.of(), null, null, null, TaskStatus.DONE)))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(taskRepository, never()).updateStatusByFilter(any(), any(), any(), any(), any());
     }
-}
\ No newline at end of file
+}
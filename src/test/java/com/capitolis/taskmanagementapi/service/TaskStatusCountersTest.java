@@ -0,0 +1,119 @@
+package com.capitolis.taskmanagementapi.service;
+
+import com.capitolis.taskmanagementapi.dto.TaskStatusCount;
+import com.capitolis.taskmanagementapi.event.TaskChangedEvent;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.capitolis.taskmanagementapi.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskStatusCounters Unit Tests")
+class TaskStatusCountersTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counters, "recountDelayMs", 200L); // @Value isn't resolved in a plain unit test
+        when(taskRepository.countByStatus()).thenReturn(List.of(count(TaskStatus.TODO, 5), count(TaskStatus.DONE, 2)));
+        counters.seed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        counters.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should seed the counters from one GROUP BY query")
+    void testSeed() {
+        assertThat(counters.snapshot())
+                .containsEntry(TaskStatus.TODO, 5L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L)
+                .containsEntry(TaskStatus.DONE, 2L);
+        verify(taskRepository, times(1)).countByStatus();
+    }
+
+    @Test
+    @DisplayName("Should count created tasks without querying the database")
+    void testCreatedTasksAreCounted() {
+        Task task1 = new Task();
+        task1.setStatus(TaskStatus.IN_PROGRESS);
+        Task task2 = new Task();
+        task2.setStatus(TaskStatus.TODO);
+
+        counters.onTaskChanged(TaskChangedEvent.created(List.of(task1, task2)));
+
+        assertThat(counters.snapshot())
+                .containsEntry(TaskStatus.TODO, 6L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 1L);
+        verify(taskRepository, times(1)).countByStatus(); // Only the seed query
+    }
+
+    @Test
+    @DisplayName("Should apply the exact deltas of updates, deletes and bulk status changes without recounting")
+    void testWritesApplyExactDeltas() {
+        Task done = new Task();
+        done.setId(1L);
+        done.setStatus(TaskStatus.DONE);
+
+        counters.onTaskChanged(TaskChangedEvent.completed(done, TaskStatus.TODO));
+        counters.onTaskChanged(TaskChangedEvent.deleted(List.of(2L, 3L), Map.of(TaskStatus.TODO, 2L)));
+        counters.onTaskChanged(TaskChangedEvent.statusChanged(null, Map.of(TaskStatus.TODO, 1L), TaskStatus.IN_PROGRESS));
+
+        assertThat(counters.snapshot())
+                .containsEntry(TaskStatus.TODO, 1L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+                .containsEntry(TaskStatus.DONE, 3L);
+        verify(taskRepository, after(500).times(1)).countByStatus(); // Only the seed query, nothing scheduled
+    }
+
+    @Test
+    @DisplayName("Should count again in the background when a write raced with a count")
+    void testWriteDuringCountTriggersRecount() {
+        when(taskRepository.countByStatus()).thenAnswer(invocation -> {
+            Task task = new Task();
+            task.setStatus(TaskStatus.TODO);
+            counters.onTaskChanged(TaskChangedEvent.created(task)); // Commits while the GROUP BY runs
+            return List.of(count(TaskStatus.TODO, 6));
+        }).thenReturn(List.of(count(TaskStatus.TODO, 6)));
+
+        counters.recount();
+
+        verify(taskRepository, timeout(5_000).times(3)).countByStatus(); // seed + racing count + one debounced recount
+        assertThat(counters.snapshot()).containsEntry(TaskStatus.TODO, 6L);
+    }
+
+    private static TaskStatusCount count(TaskStatus status, long total) {
+        return new TaskStatusCount() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,225 @@
+package com.capitolis.taskmanagementapi.sharding;
+
+import com.capitolis.taskmanagementapi.dto.RebalanceResult;
+import com.capitolis.taskmanagementapi.dto.ShardStats;
+import com.capitolis.taskmanagementapi.dto.ShardedTaskUpdateRequest;
+import com.capitolis.taskmanagementapi.exception.BadRequestException;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against four real in-memory H2 databases (two active shards, two spare), fresh ones per test.
+ */
+@DisplayName("ShardedTaskRepository Tests")
+class ShardedTaskRepositoryTest {
+
+    private static final int TASKS = 300;
+
+    private ShardedTaskRepository repository;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "jdbc:h2:mem:shardtest-" + UUID.randomUUID() + "-";
+        List<String> urls = IntStream.range(0, 4).mapToObj(i -> prefix + i).toList();
+        repository = new ShardedTaskRepository(urls, 2, 1, 2, "sa", "");
+
+        ids = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle((i % 3 == 0 ? "Deploy " : "Review ") + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.TODO : TaskStatus.DONE);
+            ids.add(repository.save(task).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should spread tasks over the active shards and find each one by id")
+    void testSaveAndFindById() {
+        // Assert - every task is on the shard its id hashes to, and nothing is on the spare shards
+        ShardStats stats = repository.stats();
+        assertThat(stats.shardCount()).isEqualTo(2);
+        assertThat(stats.tasksPerShard()).containsExactly(countOn(0, 2), countOn(1, 2), 0L, 0L);
+        assertThat(stats.tasksPerShard().get(0)).isPositive();
+        assertThat(stats.tasksPerShard().get(1)).isPositive();
+
+        assertThat(new HashSet<>(ids)).hasSize(TASKS);
+        assertThat(repository.findById(ids.get(42))).get().extracting(Task::getTitle).isEqualTo("Deploy 42");
+        assertThat(repository.findById(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge pages from every shard in id order without gaps or duplicates")
+    void testFindPage_MergesShards() {
+        // Act
+        List<Long> all = pageThrough(null, null);
+        List<Long> todo = pageThrough(TaskStatus.TODO, null);
+        List<Long> deploy = pageThrough(null, "DEPLOY");
+
+        // Assert
+        assertThat(all).isSorted().containsExactlyElementsOf(ids);
+        assertThat(todo).isSorted().hasSize(TASKS / 2);
+        assertThat(deploy).isSorted().hasSize(TASKS / 3);
+    }
+
+    @Test
+    @DisplayName("Should match % and _ in the keyword literally, like the JPA and reactive stores")
+    void testFindPage_KeywordWithWildcards() {
+        // Arrange - "release_1" as a pattern would also match "releaseX1"
+        Task literal = new Task();
+        literal.setTitle("release_1");
+        literal.setStatus(TaskStatus.TODO);
+        long literalId = repository.save(literal).getId();
+        Task lookalike = new Task();
+        lookalike.setTitle("releaseX1");
+        lookalike.setStatus(TaskStatus.TODO);
+        repository.save(lookalike);
+
+        // Act & Assert
+        assertThat(pageThrough(null, "RELEASE_1")).containsExactly(literalId);
+        assertThat(pageThrough(null, "%")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should move only the tasks that change shard when growing, and keep every task reachable")
+    void testRebalance_Grow() {
+        // Act
+        RebalanceResult result = repository.rebalance(4);
+
+        // Assert - jump hashing only moves tasks onto the new shards
+        ShardStats stats = repository.stats();
+        assertThat(result.moved()).isEqualTo(stats.tasksPerShard().get(2) + stats.tasksPerShard().get(3));
+        assertThat(result.moved()).isBetween(1L, (long) TASKS - 1);
+        for (int shard = 0; shard < 4; shard++) {
+            assertThat(stats.tasksPerShard().get(shard)).isEqualTo(countOn(shard, 4));
+        }
+        assertThat(ids).allSatisfy(id -> assertThat(repository.findById(id)).isPresent());
+        assertThat(pageThrough(null, null)).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("Should put every task back on the remaining shards when shrinking")
+    void testRebalance_Shrink() {
+        // Act
+        repository.rebalance(4);
+        repository.rebalance(1);
+
+        // Assert
+        assertThat(repository.stats().tasksPerShard()).containsExactly((long) TASKS, 0L, 0L, 0L);
+        assertThat(pageThrough(null, null)).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("Snowflake ids should keep increasing even when the sequence runs out or the clock steps back")
+    void testSnowflakeIds() {
+        // Arrange - a clock stuck on one millisecond, then stepping back
+        long[] now = {SnowflakeIdGenerator.EPOCH_MS + 1_000};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, () -> now[0]);
+
+        // Act
+        Set<Long> seen = new HashSet<>();
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                now[0] -= 500;
+            }
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+            seen.add(id);
+        }
+
+        // Assert
+        assertThat(seen).hasSize(10_000);
+        assertThat((previous >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Snowflake ids should stay within JavaScript's safe integer range")
+    void testSnowflakeIds_SafeInJavaScript() {
+        // Arrange - the last millisecond the timestamp bits can hold, highest worker id
+        long lastMillisecond = SnowflakeIdGenerator.EPOCH_MS + (1L << 41) - 1;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKER_ID, () -> lastMillisecond);
+
+        // Act
+        long id = 0;
+        for (int i = 0; i < 128; i++) {
+            id = generator.nextId();
+        }
+
+        // Assert - Number.MAX_SAFE_INTEGER is 2^53 - 1
+        assertThat(id).isEqualTo((1L << 53) - 1);
+        assertThat(ids).allSatisfy(saved -> assertThat(saved).isLessThan(1L << 53));
+    }
+
+    @Test
+    @DisplayName("Should reject a title or description longer than its column instead of failing in the database")
+    void testSave_TooLong() {
+        // Arrange
+        Task longTitle = new Task();
+        longTitle.setTitle("x".repeat(ShardedTaskRepository.MAX_TITLE_LENGTH + 1));
+        Task longDescription = new Task();
+        longDescription.setTitle("ok");
+        longDescription.setDescription("x".repeat(ShardedTaskRepository.MAX_DESCRIPTION_LENGTH + 1));
+
+        // Act & Assert
+        assertThatThrownBy(() -> repository.save(longTitle))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("title");
+        assertThatThrownBy(() -> repository.update(ids.getFirst(), longDescription))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("description");
+    }
+
+    @Test
+    @DisplayName("An update without a status should keep the task's current status")
+    void testUpdate_KeepsStatusWhenMissing() {
+        // Arrange - the second task was saved as DONE
+        long id = ids.get(1);
+        Task details = new ShardedTaskUpdateRequest("Renamed", null, null, null).toTask(); // PUT body without "status"
+
+        // Act
+        Task updated = repository.update(id, details).orElseThrow();
+
+        // Assert
+        assertThat(updated.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(updated.getTitle()).isEqualTo("Renamed");
+    }
+
+    private long countOn(int shard, int shardCount) {
+        return ids.stream().filter(id -> ShardedTaskRepository.shardFor(id, shardCount) == shard).count();
+    }
+
+    // Follows the keyset cursor through every page, 7 at a time so pages cut across shard boundaries
+    private List<Long> pageThrough(TaskStatus status, String keyword) {
+        List<Long> seen = new ArrayList<>();
+        long afterId = 0;
+        while (true) {
+            List<Task> page = repository.findPage(status, keyword, afterId, 7);
+            if (page.isEmpty()) {
+                return seen;
+            }
+            page.forEach(task -> seen.add(task.getId()));
+            afterId = page.getLast().getId();
+        }
+    }
+}
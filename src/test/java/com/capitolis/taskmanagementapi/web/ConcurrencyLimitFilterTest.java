@@ -0,0 +1,68 @@
+package com.capitolis.taskmanagementapi.web;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter Unit Tests")
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(1, 10);
+    }
+
+    @Test
+    @DisplayName("Should release the permit when a synchronous request returns")
+    void testDoFilter_SyncReleasesOnReturn() throws Exception {
+        // Act
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), response, new MockFilterChain());
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hold the permit of an async request until the async response completes")
+    void testDoFilter_AsyncReleasesOnComplete() throws Exception {
+        // Arrange
+        MockHttpServletRequest streaming = apiRequest();
+
+        // Act - the handler starts async and returns, the body is still being written
+        filter.doFilter(streaming, new MockHttpServletResponse(), new MockFilterChain(new StartAsyncServlet()));
+
+        // Assert - a second request is shed while the stream is open
+        assertThat(filter.inFlight()).isEqualTo(1);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+
+        streaming.getAsyncContext().complete();
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/export");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static final class StartAsyncServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+            request.startAsync();
+        }
+    }
+}
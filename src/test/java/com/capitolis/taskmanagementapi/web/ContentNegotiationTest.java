@@ -0,0 +1,160 @@
+package com.capitolis.taskmanagementapi.web;
+
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Accept negotiation and gzip through a real Tomcat (MockMvc doesn't run server.compression), on its own database.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.browser.auto-open=false",
+        "app.console.task-manager.enabled=false",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:negotiationtest"
+})
+@DisplayName("Content negotiation tests")
+class ContentNegotiationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Task newTask = new Task();
+        newTask.setTitle("Negotiated");
+        newTask.setDescription("Same task, four formats");
+        task = taskService.createTask(newTask);
+    }
+
+    @Test
+    @DisplayName("Accept: */* should get JSON")
+    void anyType_Json() throws Exception {
+        HttpResponse<byte[]> response = get("/api/tasks/" + task.getId(), "*/*", null);
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValueSatisfying(type -> assertThat(type).startsWith("application/json"));
+        assertThat(titleOf(JsonMapper.builder().build(), response.body())).isEqualTo("Negotiated");
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor should get CBOR")
+    void cbor() throws Exception {
+        HttpResponse<byte[]> response = get("/api/tasks/" + task.getId(), "application/cbor", null);
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("application/cbor");
+        assertThat(titleOf(CBORMapper.builder().build(), response.body())).isEqualTo("Negotiated");
+    }
+
+    @Test
+    @DisplayName("Accept: application/x-jackson-smile should get Smile")
+    void smile() throws Exception {
+        HttpResponse<byte[]> response = get("/api/tasks/" + task.getId(), "application/x-jackson-smile", null);
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("application/x-jackson-smile");
+        assertThat(titleOf(SmileMapper.builder().build(), response.body())).isEqualTo("Negotiated");
+    }
+
+    @Test
+    @DisplayName("Accept: application/x-protobuf should get the task.proto encoding")
+    void protobuf() throws Exception {
+        HttpResponse<byte[]> response = get("/api/tasks/" + task.getId(), "application/x-protobuf", null);
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("application/x-protobuf");
+        assertThat(response.body()).isEqualTo(TaskProtobufEncoder.encode(taskService.getTaskById(task.getId()).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Each format should get its own strong ETag, and a tag only matches its own format")
+    void etagPerFormat() throws Exception {
+        // Arrange
+        String path = "/api/tasks/" + task.getId();
+        List<String> tags = new ArrayList<>();
+        for (String type : List.of("application/json", "application/cbor", "application/x-jackson-smile", "application/x-protobuf")) {
+            tags.add(get(path, type, null).headers().firstValue(HttpHeaders.ETAG).orElseThrow());
+        }
+        String cborTag = tags.get(1);
+
+        // Act
+        HttpResponse<byte[]> sameFormat = client.send(request(path, "application/cbor", null)
+                .header(HttpHeaders.IF_NONE_MATCH, cborTag).build(), HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> otherFormat = client.send(request(path, "application/json", null)
+                .header(HttpHeaders.IF_NONE_MATCH, cborTag).build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        // Assert
+        assertThat(tags).doesNotHaveDuplicates().allSatisfy(tag -> assertThat(tag).doesNotStartWith("W/"));
+        assertThat(sameFormat.statusCode()).isEqualTo(304);
+        assertThat(otherFormat.statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("A large response should be gzipped when the client accepts gzip")
+    void gzip() throws Exception {
+        // Arrange - well over server.compression.min-response-size (2KB)
+        for (int i = 0; i < 40; i++) {
+            Task filler = new Task();
+            filler.setTitle("Compressible task " + i);
+            filler.setDescription("x".repeat(100));
+            taskService.createTask(filler);
+        }
+
+        // Act
+        HttpResponse<byte[]> gzipped = get("/api/tasks?size=100", "application/json", "gzip");
+        HttpResponse<byte[]> plain = get("/api/tasks?size=100", "application/json", null);
+
+        // Assert
+        assertThat(gzipped.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(plain.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        byte[] unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            unzipped = in.readAllBytes();
+        }
+        assertThat(gzipped.body().length).isLessThan(plain.body().length);
+        assertThat(new String(unzipped)).isEqualTo(new String(plain.body()));
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws Exception {
+        return client.send(request(path, accept, acceptEncoding).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpRequest.Builder request(String path, String accept, String acceptEncoding) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.ACCEPT, accept);
+        if (acceptEncoding != null) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return builder;
+    }
+
+    private static String titleOf(ObjectMapper mapper, byte[] body) {
+        JsonNode node = mapper.readTree(body);
+        return node.get("title").asString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.capitolis.taskmanagementapi.web;
+
+import com.capitolis.taskmanagementapi.dto.CursorPage;
+import com.capitolis.taskmanagementapi.dto.TaskSummary;
+import com.capitolis.taskmanagementapi.model.Task;
+import com.capitolis.taskmanagementapi.model.TaskStatus;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskProtobufEncoder Unit Tests")
+class TaskProtobufEncoderTest {
+
+    @Test
+    @DisplayName("Should encode a task with the field numbers from task.proto")
+    void testEncode_Task() throws Exception {
+        // Arrange
+        Task task = new Task();
+        task.setId(42L);
+        task.setTitle("Learn Spring Boot");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setDueDate(LocalDateTime.of(2026, 2, 20, 10, 0));
+
+        // Act
+        Map<Integer, Object> fields = decode(TaskProtobufEncoder.encode(task));
+
+        // Assert - description and timestamps are null, so they are not written at all
+        assertThat(fields).containsOnlyKeys(1, 2, 4, 5);
+        assertThat(fields.get(1)).isEqualTo(42L);
+        assertThat(fields.get(2)).isEqualTo("Learn Spring Boot");
+        assertThat(fields.get(4)).isEqualTo(2L); // IN_PROGRESS = 2
+        assertThat(fields.get(5)).isEqualTo("2026-02-20T10:00:00");
+    }
+
+    @Test
+    @DisplayName("Should use the enum numbers from task.proto for every status")
+    void testStatusNumbers() {
+        assertThat(TaskProtobufEncoder.statusNumber(TaskStatus.TODO)).isEqualTo(1);
+        assertThat(TaskProtobufEncoder.statusNumber(TaskStatus.IN_PROGRESS)).isEqualTo(2);
+        assertThat(TaskProtobufEncoder.statusNumber(TaskStatus.DONE)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should encode a summary page as repeated summaries plus cursor")
+    void testEncode_SummaryPage() throws Exception {
+        // Arrange
+        CursorPage<TaskSummary> page = new CursorPage<>(
+                List.of(new TaskSummary(1L, "First", TaskStatus.TODO), new TaskSummary(2L, "Second", TaskStatus.DONE)),
+                "Mg", true);
+
+        // Act
+        byte[] bytes = TaskProtobufEncoder.encode(page);
+
+        // Assert
+        assertThat(bytes).hasSize(TaskProtobufEncoder.size(page));
+        List<Integer> fieldNumbers = new ArrayList<>();
+        CodedInputStream in = CodedInputStream.newInstance(bytes);
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            fieldNumbers.add(WireFormat.getTagFieldNumber(tag));
+            in.skipField(tag);
+        }
+        assertThat(fieldNumbers).containsExactly(2, 2, 3, 4);
+    }
+
+    // Minimal decoder for flat messages: varints as Long, length-delimited fields as String
+    private static Map<Integer, Object> decode(byte[] bytes) throws Exception {
+        Map<Integer, Object> fields = new HashMap<>();
+        CodedInputStream in = CodedInputStream.newInstance(bytes);
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            int field = WireFormat.getTagFieldNumber(tag);
+            if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_VARINT) {
+                fields.put(field, in.readInt64());
+            } else {
+                fields.put(field, in.readString());
+            }
+        }
+        return fields;
+    }
+}